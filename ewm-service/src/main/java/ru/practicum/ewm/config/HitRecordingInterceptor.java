@@ -0,0 +1,61 @@
+package ru.practicum.ewm.config;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import ru.practicum.ewm.stats.client.EndpointHit;
+import ru.practicum.ewm.stats.client.StatisticsClient;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HitRecordingInterceptor implements HandlerInterceptor {
+
+    private static final String APP_NAME = "ewm-service";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final StatisticsClient statsClient;
+
+    private final ExecutorService hitExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (ex != null || !(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(RecordHit.class)
+                || !(HttpStatus.valueOf(response.getStatus()).is2xxSuccessful()
+                || response.getStatus() == HttpStatus.NOT_MODIFIED.value())) {
+            return;
+        }
+
+        EndpointHit hit = EndpointHit.builder()
+                .app(APP_NAME)
+                .uri(request.getRequestURI())
+                .ip(request.getRemoteAddr())
+                .timestamp(LocalDateTime.now())
+                .build();
+        try {
+            hitExecutor.execute(() -> statsClient.sendAccessRecord(hit));
+        } catch (RejectedExecutionException e) {
+            log.warn("Access record dropped during shutdown: {}", hit);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        hitExecutor.shutdown();
+        hitExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
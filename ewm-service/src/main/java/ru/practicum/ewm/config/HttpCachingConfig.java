@@ -0,0 +1,54 @@
+package ru.practicum.ewm.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+
+@Configuration
+public class HttpCachingConfig {
+
+    private static final String[] PUBLIC_READ_PATHS = {
+            "/events", "/events/*", "/categories", "/categories/*", "/compilations", "/compilations/*"
+    };
+
+    @Value("${ewm.http.cache-control:no-cache}")
+    private String cacheControl;
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(PUBLIC_READ_PATHS);
+        registration.setName("etagFilter");
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> cacheControlFilter() {
+        FilterRegistrationBean<OncePerRequestFilter> registration =
+                new FilterRegistrationBean<>(new OncePerRequestFilter() {
+                    @Override
+                    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                    FilterChain filterChain) throws ServletException, IOException {
+                        if (HttpMethod.GET.matches(request.getMethod())) {
+                            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+                        }
+                        filterChain.doFilter(request, response);
+                    }
+                });
+        registration.addUrlPatterns(PUBLIC_READ_PATHS);
+        registration.setName("cacheControlFilter");
+        return registration;
+    }
+}
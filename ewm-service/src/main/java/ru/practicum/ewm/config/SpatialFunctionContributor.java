@@ -0,0 +1,23 @@
+package ru.practicum.ewm.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+public class SpatialFunctionContributor implements FunctionContributor {
+
+    // in_bounding_box(lat, lon, minLat, maxLat, minLon, maxLon); on PostgreSQL it renders the
+    // point/box containment served by the GiST index idx_events_published_location_gist
+    public static final String IN_BOUNDING_BOX = "in_bounding_box";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        String pattern = functionContributions.getDialect() instanceof PostgreSQLDialect
+                ? "(point(?2, ?1) <@ box(point(?5, ?3), point(?6, ?4)))"
+                : "(?1 between ?3 and ?4 and ?2 between ?5 and ?6)";
+        functionContributions.getFunctionRegistry().registerPattern(IN_BOUNDING_BOX, pattern,
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
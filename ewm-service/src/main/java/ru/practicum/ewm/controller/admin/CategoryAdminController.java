@@ -3,17 +3,23 @@ package ru.practicum.ewm.controller.admin;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.ewm.dto.BulkImportResultDto;
 import ru.practicum.ewm.dto.CategoryDto;
 import ru.practicum.ewm.dto.NewCategoryDto;
+import ru.practicum.ewm.service.BulkImportService;
 import ru.practicum.ewm.service.CategoryService;
 
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/admin/categories")
 @RequiredArgsConstructor
 public class CategoryAdminController {
     private final CategoryService categoryService;
+    private final BulkImportService bulkImportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -21,6 +27,12 @@ public class CategoryAdminController {
         return categoryService.addCategory(newCategoryDto);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkImportResultDto importCategories(InputStream body) {
+        return bulkImportService.importItems(body, NewCategoryDto.class, categoryService::addCategories);
+    }
+
     @DeleteMapping("/{catId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public ResponseEntity<Void> deleteCategory(@PathVariable Long catId) {
@@ -3,12 +3,19 @@ package ru.practicum.ewm.controller.admin;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.ewm.dto.BulkImportResultDto;
+import ru.practicum.ewm.dto.CursorPage;
+import ru.practicum.ewm.dto.EventCursor;
 import ru.practicum.ewm.dto.EventFullDto;
+import ru.practicum.ewm.dto.NewEventImportDto;
 import ru.practicum.ewm.dto.UpdateEventAdminRequest;
+import ru.practicum.ewm.service.BulkImportService;
 import ru.practicum.ewm.service.EventService;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,6 +23,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventAdminController {
     private final EventService eventService;
+    private final BulkImportService bulkImportService;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
@@ -26,15 +34,23 @@ public class EventAdminController {
             @RequestParam(required = false) String rangeStart,
             @RequestParam(required = false) String rangeEnd,
             @RequestParam(defaultValue = "0") int from,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
     ) {
-        return ResponseEntity.ok(eventService.findEventsAdmin(users,
+        CursorPage<EventFullDto> events = eventService.findEventsAdmin(users,
                 states,
                 categories,
                 rangeStart,
                 rangeEnd,
                 from,
-                size));
+                size,
+                cursor);
+        if (events.getNextCursor() == null) {
+            return ResponseEntity.ok(events.getItems());
+        }
+        return ResponseEntity.ok()
+                .header(EventCursor.NEXT_CURSOR_HEADER, events.getNextCursor())
+                .body(events.getItems());
     }
 
     @PatchMapping("/{eventId}")
@@ -43,4 +59,10 @@ public class EventAdminController {
                                                          @Valid @RequestBody UpdateEventAdminRequest dto) {
         return ResponseEntity.ok(eventService.updateEventByAdmin(eventId, dto));
     }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkImportResultDto importEvents(InputStream body) {
+        return bulkImportService.importItems(body, NewEventImportDto.class, eventService::addEvents);
+    }
 }
\ No newline at end of file
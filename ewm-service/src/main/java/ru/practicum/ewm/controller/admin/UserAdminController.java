@@ -3,12 +3,16 @@ package ru.practicum.ewm.controller.admin;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.ewm.dto.BulkImportResultDto;
 import ru.practicum.ewm.dto.NewUserRequest;
 import ru.practicum.ewm.dto.UserDto;
+import ru.practicum.ewm.service.BulkImportService;
 import ru.practicum.ewm.service.UserService;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,6 +20,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserAdminController {
     private final UserService userService;
+    private final BulkImportService bulkImportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -23,6 +28,12 @@ public class UserAdminController {
         return userService.addUser(request);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkImportResultDto importUsers(InputStream body) {
+        return bulkImportService.importItems(body, NewUserRequest.class, userService::addUsers);
+    }
+
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<List<UserDto>> getUsers(@RequestParam(required = false) List<Long> ids,
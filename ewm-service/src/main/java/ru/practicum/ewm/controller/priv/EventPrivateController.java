@@ -27,8 +27,15 @@ public class EventPrivateController {
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<List<EventShortDto>> getUserEvents(@PathVariable Long userId,
                                                              @RequestParam(defaultValue = "0") int from,
-                                                             @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(eventService.getUserEvents(userId, from, size));
+                                                             @RequestParam(defaultValue = "10") int size,
+                                                             @RequestParam(required = false) String cursor) {
+        CursorPage<EventShortDto> events = eventService.getUserEvents(userId, from, size, cursor);
+        if (events.getNextCursor() == null) {
+            return ResponseEntity.ok(events.getItems());
+        }
+        return ResponseEntity.ok()
+                .header(EventCursor.NEXT_CURSOR_HEADER, events.getNextCursor())
+                .body(events.getItems());
     }
 
     @GetMapping("/{eventId}")
@@ -4,9 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.ewm.dto.CategoryDto;
 import ru.practicum.ewm.service.CategoryService;
 
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -23,8 +25,14 @@ public class CategoryPublicController {
     }
 
     @GetMapping("/{catId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<CategoryDto> getCategory(@PathVariable Long catId) {
+    public ResponseEntity<CategoryDto> getCategory(@PathVariable Long catId, WebRequest webRequest) {
+        long lastModified = categoryService.getCategoryLastModified(catId)
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        if (webRequest.checkNotModified(lastModified)) {
+            return null;
+        }
         return ResponseEntity.ok(categoryService.getCategory(catId));
     }
 }
\ No newline at end of file
@@ -1,11 +1,11 @@
 package ru.practicum.ewm.controller.pub;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.ewm.config.RecordHit;
 import ru.practicum.ewm.dto.CommentDto;
 import ru.practicum.ewm.service.CommentService;
 
@@ -20,6 +20,7 @@ public class CommentPublicController {
     private final CommentService commentService;
 
     @GetMapping
+    @RecordHit
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<List<CommentDto>> getComments(
             @RequestParam(required = false) Long eventId,
@@ -27,34 +28,33 @@ public class CommentPublicController {
             @RequestParam(required = false) String rangeStart,
             @RequestParam(required = false) String rangeEnd,
             @RequestParam(defaultValue = "0") int from,
-            @RequestParam(defaultValue = "10") int size,
-            HttpServletRequest request
+            @RequestParam(defaultValue = "10") int size
     ) {
         log.info("Public request for comments with eventId={}, users={}, range=[{}, {}], from={}, size={}",
                 eventId, users, rangeStart, rangeEnd, from, size);
 
-        return ResponseEntity.ok(commentService.findComments(eventId, users, rangeStart, rangeEnd, from, size, request));
+        return ResponseEntity.ok(commentService.findComments(eventId, users, rangeStart, rangeEnd, from, size));
     }
 
     @GetMapping("/{commentId}")
+    @RecordHit
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<CommentDto> getComment(@PathVariable Long commentId,
-                                                 HttpServletRequest request) {
+    public ResponseEntity<CommentDto> getComment(@PathVariable Long commentId) {
         log.info("Public request for comment with id={}", commentId);
 
-        return ResponseEntity.ok(commentService.getCommentById(commentId, request));
+        return ResponseEntity.ok(commentService.getPublishedCommentById(commentId));
     }
 
     @GetMapping("/event/{eventId}")
+    @RecordHit
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<List<CommentDto>> getEventComments(
             @PathVariable Long eventId,
             @RequestParam(defaultValue = "0") int from,
-            @RequestParam(defaultValue = "10") int size,
-            HttpServletRequest request
+            @RequestParam(defaultValue = "10") int size
     ) {
         log.info("Public request for event comments eventId={}, from={}, size={}", eventId, from, size);
 
-        return ResponseEntity.ok(commentService.getEventComments(eventId, from, size, request));
+        return ResponseEntity.ok(commentService.getEventComments(eventId, from, size));
     }
 }
\ No newline at end of file
@@ -4,9 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.ewm.dto.CompilationDto;
 import ru.practicum.ewm.service.CompilationService;
 
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -24,8 +26,14 @@ public class CompilationPublicController {
     }
 
     @GetMapping("/{compId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<CompilationDto> getCompilation(@PathVariable Long compId) {
+    public ResponseEntity<CompilationDto> getCompilation(@PathVariable Long compId, WebRequest webRequest) {
+        long lastModified = compilationService.getCompilationLastModified(compId)
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        if (webRequest.checkNotModified("\"" + lastModified + "\"", lastModified)) {
+            return null;
+        }
         return ResponseEntity.ok(compilationService.getCompilation(compId));
     }
 }
\ No newline at end of file
@@ -1,15 +1,20 @@
 package ru.practicum.ewm.controller.pub;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.ewm.config.RecordHit;
+import ru.practicum.ewm.dto.CursorPage;
+import ru.practicum.ewm.dto.EventCursor;
 import ru.practicum.ewm.dto.EventFullDto;
 import ru.practicum.ewm.dto.EventShortDto;
+import ru.practicum.ewm.dto.EventTileDto;
 import ru.practicum.ewm.service.EventService;
 
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -20,6 +25,7 @@ public class EventPublicController {
     private final EventService eventService;
 
     @GetMapping
+    @RecordHit
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<List<EventShortDto>> getEvents(
             @RequestParam(required = false) String text,
@@ -28,21 +34,51 @@ public class EventPublicController {
             @RequestParam(required = false) String rangeStart,
             @RequestParam(required = false) String rangeEnd,
             @RequestParam(defaultValue = "false") boolean onlyAvailable,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(required = false) Double radius,
             @RequestParam(required = false) String sort,
             @RequestParam(defaultValue = "0") int from,
             @RequestParam(defaultValue = "10") int size,
-            HttpServletRequest request) {
+            @RequestParam(required = false) String cursor) {
 
-        return ResponseEntity.ok(eventService.getPublicEvents(
+        CursorPage<EventShortDto> events = eventService.getPublicEvents(
                 text, categories, paid, rangeStart, rangeEnd,
-                onlyAvailable, sort, from, size, request));
+                onlyAvailable, lat, lon, radius, sort, from, size, cursor);
+        if (events.getNextCursor() == null) {
+            return ResponseEntity.ok(events.getItems());
+        }
+        return ResponseEntity.ok()
+                .header(EventCursor.NEXT_CURSOR_HEADER, events.getNextCursor())
+                .body(events.getItems());
     }
 
-    @GetMapping("/{id}")
+    @GetMapping("/trending")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<EventShortDto>> getTrendingEvents(@RequestParam(required = false) Long category,
+                                                                 @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.getTrendingEvents(category, limit));
+    }
+
+    @GetMapping("/tiles")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<EventFullDto> getEvent(@PathVariable Long id, HttpServletRequest request) {
-        log.info("client ip: {}", request.getRemoteAddr());
-        log.info("endpoint path: {}", request.getRequestURI());
-        return ResponseEntity.ok(eventService.getPublicEvent(id, request));
+    public ResponseEntity<List<EventTileDto>> getEventTiles(@RequestParam int zoom,
+                                                            @RequestParam String bbox) {
+        return ResponseEntity.ok(eventService.getEventTiles(zoom, bbox));
+    }
+
+    @GetMapping("/{id}")
+    @RecordHit
+    public ResponseEntity<EventFullDto> getEvent(@PathVariable Long id, WebRequest webRequest) {
+        long lastModified = eventService.getPublicEventLastModified(id)
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        EventFullDto event = eventService.getPublicEvent(id);
+        // Views are live stats rather than part of the row, so they go into the ETag and Last-Modified is not sent.
+        if (webRequest.checkNotModified("\"" + lastModified + "-" + event.getViews() + "\"")) {
+            return null;
+        }
+        return ResponseEntity.ok(event);
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package ru.practicum.ewm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDto {
+    private long imported;
+}
@@ -0,0 +1,114 @@
+package ru.practicum.ewm.dto;
+
+import ru.practicum.ewm.exception.ConditionsNotMetException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+public final class EventCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String SEPARATOR = "|";
+
+    public enum Order {
+        EVENT_DATE,
+        EVENT_DATE_DESC,
+        VIEWS
+    }
+
+    private final Order order;
+    private final LocalDateTime eventDate;
+    private final Long views;
+    private final Long id;
+    private final long filters;
+
+    private EventCursor(Order order, String key, Long id, long filters) {
+        this.order = order;
+        this.eventDate = order == Order.VIEWS ? null : LocalDateTime.parse(key);
+        this.views = order == Order.VIEWS ? Long.valueOf(key) : null;
+        this.id = id;
+        this.filters = filters;
+    }
+
+    public LocalDateTime getEventDate() {
+        return eventDate;
+    }
+
+    public Long getViews() {
+        return views;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    // Fingerprints the request filters from their canonical text so that a cursor stays valid after a restart
+    // and on other instances; Object.hashCode of enums is not stable across JVMs.
+    public static long filters(Object... values) {
+        StringBuilder canonical = new StringBuilder();
+        for (Object value : values) {
+            appendCanonical(canonical, value);
+            canonical.append(SEPARATOR);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(canonical.toString().getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static void appendCanonical(StringBuilder canonical, Object value) {
+        if (value == null) {
+            canonical.append("null");
+        } else if (value instanceof Collection<?> collection) {
+            canonical.append('[');
+            for (Object element : collection) {
+                appendCanonical(canonical, element);
+                canonical.append(',');
+            }
+            canonical.append(']');
+        } else if (value instanceof Enum<?> constant) {
+            canonical.append(constant.name());
+        } else {
+            canonical.append(value);
+        }
+    }
+
+    public static <T> String next(List<T> page, int size, Order order, long filters,
+                                  Function<T, ?> keyExtractor, Function<T, Long> idExtractor) {
+        if (page.isEmpty() || page.size() < size) {
+            return null;
+        }
+        T last = page.get(page.size() - 1);
+        String value = order + SEPARATOR + keyExtractor.apply(last) + SEPARATOR + idExtractor.apply(last)
+                + SEPARATOR + filters;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String cursor, Order order, long filters) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        EventCursor decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new ConditionsNotMetException("Invalid cursor: " + cursor);
+            }
+            decoded = new EventCursor(Order.valueOf(parts[0]), parts[1], Long.valueOf(parts[2]),
+                    Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ConditionsNotMetException("Invalid cursor: " + cursor);
+        }
+        if (decoded.order != order || decoded.filters != filters) {
+            throw new ConditionsNotMetException("Cursor does not match the requested sort and filters");
+        }
+        return decoded;
+    }
+}
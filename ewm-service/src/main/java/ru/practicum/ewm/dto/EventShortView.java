@@ -0,0 +1,22 @@
+package ru.practicum.ewm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class EventShortView {
+    private Long id;
+    private String annotation;
+    private Long categoryId;
+    private String categoryName;
+    private Integer confirmedRequests;
+    private LocalDateTime eventDate;
+    private Long initiatorId;
+    private String initiatorName;
+    private Boolean paid;
+    private String title;
+    private Long views;
+}
@@ -0,0 +1,18 @@
+package ru.practicum.ewm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTileDto {
+    private Integer zoom;
+    private Integer x;
+    private Integer y;
+    private Long count;
+    private Long eventId;
+}
@@ -0,0 +1,22 @@
+package ru.practicum.ewm.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewEventImportDto {
+    @NotNull(message = "Initiator is required")
+    private Long initiator;
+
+    @Valid
+    @JsonUnwrapped
+    private NewEventDto event;
+}
@@ -1,6 +1,8 @@
 package ru.practicum.ewm.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -31,4 +33,11 @@ public class ErrorHandler {
     public ErrorResponse handleMethodConflictException(final ConflictException e) {
         return new ErrorResponse(e.getMessage());
     }
+
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(final ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse(e.getMessage()));
+    }
 }
\ No newline at end of file
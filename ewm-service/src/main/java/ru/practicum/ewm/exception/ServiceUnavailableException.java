@@ -0,0 +1,13 @@
+package ru.practicum.ewm.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
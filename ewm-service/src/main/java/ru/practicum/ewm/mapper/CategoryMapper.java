@@ -1,6 +1,7 @@
 package ru.practicum.ewm.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import ru.practicum.ewm.dto.CategoryDto;
 import ru.practicum.ewm.dto.NewCategoryDto;
 import ru.practicum.ewm.model.Category;
@@ -9,5 +10,6 @@ import ru.practicum.ewm.model.Category;
 public interface CategoryMapper {
     CategoryDto toDto(Category category);
 
+    @Mapping(target = "updatedOn", ignore = true)
     Category fromNewDto(NewCategoryDto dto);
 }
\ No newline at end of file
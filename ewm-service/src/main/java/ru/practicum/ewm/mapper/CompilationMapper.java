@@ -12,7 +12,11 @@ public interface CompilationMapper {
     @Mapping(source = "events", target = "events")
     CompilationDto toDto(Compilation compilation);
 
+    @Mapping(target = "events", ignore = true)
+    CompilationDto toDtoWithoutEvents(Compilation compilation);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "events", ignore = true)
+    @Mapping(target = "updatedOn", ignore = true)
     Compilation fromNewDto(NewCompilationDto dto);
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 import ru.practicum.ewm.dto.EventFullDto;
 import ru.practicum.ewm.dto.EventShortDto;
+import ru.practicum.ewm.dto.EventShortView;
 import ru.practicum.ewm.dto.NewEventDto;
 import ru.practicum.ewm.model.Event;
 
@@ -29,10 +30,19 @@ public interface EventMapper {
     @Mapping(source = "eventDate", target = "eventDate", qualifiedByName = "formatDateTime")
     EventShortDto toShortDto(Event event);
 
+    @Mapping(source = "categoryId", target = "category.id")
+    @Mapping(source = "categoryName", target = "category.name")
+    @Mapping(source = "initiatorId", target = "initiator.id")
+    @Mapping(source = "initiatorName", target = "initiator.name")
+    @Mapping(source = "eventDate", target = "eventDate", qualifiedByName = "formatDateTime")
+    EventShortDto toShortDto(EventShortView view);
+
     @Mapping(target = "state", ignore = true)
     @Mapping(target = "createdOn", ignore = true)
     @Mapping(target = "publishedOn", ignore = true)
     @Mapping(target = "views", ignore = true)
+    @Mapping(target = "confirmedRequests", ignore = true)
+    @Mapping(target = "updatedOn", ignore = true)
     @Mapping(source = "category", target = "category.id")
     @Mapping(source = "eventDate", target = "eventDate", dateFormat = "yyyy-MM-dd HH:mm:ss")
     Event fromNewDto(NewEventDto dto);
@@ -6,6 +6,7 @@ import org.mapstruct.Named;
 import ru.practicum.ewm.dto.ParticipationRequestDto;
 import ru.practicum.ewm.model.Event;
 import ru.practicum.ewm.model.ParticipationRequest;
+import ru.practicum.ewm.repository.ParticipationRequestView;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -18,6 +19,11 @@ public interface ParticipationRequestMapper {
     @Mapping(source = "created", target = "created", qualifiedByName = "formatDateTime")
     ParticipationRequestDto toDto(ParticipationRequest request);
 
+    @Mapping(source = "requesterId", target = "requester")
+    @Mapping(source = "eventId", target = "event")
+    @Mapping(source = "created", target = "created", qualifiedByName = "formatDateTime")
+    ParticipationRequestDto toDto(ParticipationRequestView request);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "requester", ignore = true)
     @Mapping(target = "event", ignore = true)
@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "categories")
@@ -14,9 +17,14 @@ import lombok.Setter;
 @AllArgsConstructor
 public class Category {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_id_seq")
+    @SequenceGenerator(name = "categories_id_seq", sequenceName = "categories_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, unique = true, length = 50)
     private String name;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_on", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime updatedOn;
 }
\ No newline at end of file
@@ -5,7 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
@@ -32,4 +34,8 @@ public class Compilation {
 
     @Column(name = "title", nullable = false, length = 50)
     private String title;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_on", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime updatedOn;
 }
\ No newline at end of file
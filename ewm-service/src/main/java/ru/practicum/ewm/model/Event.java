@@ -1,6 +1,7 @@
 package ru.practicum.ewm.model;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -8,13 +9,20 @@ import java.util.List;
 
 @Entity
 @Table(name = "events")
+@NamedEntityGraph(name = Event.WITH_CATEGORY_AND_INITIATOR, attributeNodes = {
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode("initiator")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Event {
+    public static final String WITH_CATEGORY_AND_INITIATOR = "Event.withCategoryAndInitiator";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_id_seq")
+    @SequenceGenerator(name = "events_id_seq", sequenceName = "events_id_seq", allocationSize = 50)
     private Long id;
     @Column(name = "annotation", nullable = false, length = 2000)
     private String annotation;
@@ -36,6 +44,9 @@ public class Event {
     private Boolean paid;
     @Column(name = "participant_limit")
     private Integer participantLimit;
+    @Builder.Default
+    @Column(name = "confirmed_requests", nullable = false, updatable = false)
+    private Integer confirmedRequests = 0;
     @Column(name = "published_on")
     private LocalDateTime publishedOn;
     @Column(name = "request_moderation")
@@ -49,8 +60,13 @@ public class Event {
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
-    @Transient
-    private Long views;
+    @Builder.Default
+    @Column(name = "views", nullable = false, updatable = false)
+    private Long views = 0L;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_on", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime updatedOn;
 
     public enum EventState {
         PENDING, PUBLISHED, CANCELED
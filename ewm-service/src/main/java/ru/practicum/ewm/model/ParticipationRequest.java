@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Builder
 public class ParticipationRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participation_requests_id_seq")
+    @SequenceGenerator(name = "participation_requests_id_seq", sequenceName = "participation_requests_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "created", nullable = false)
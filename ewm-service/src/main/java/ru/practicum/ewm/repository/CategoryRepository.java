@@ -1,9 +1,16 @@
 package ru.practicum.ewm.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.ewm.model.Category;
 
+import java.util.Collection;
+import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsByName(String name);
+
+    @Query("SELECT c.name FROM Category c WHERE c.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
 }
\ No newline at end of file
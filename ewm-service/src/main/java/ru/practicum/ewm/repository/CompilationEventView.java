@@ -0,0 +1,7 @@
+package ru.practicum.ewm.repository;
+
+public interface CompilationEventView {
+    Long getCompilationId();
+
+    Long getEventId();
+}
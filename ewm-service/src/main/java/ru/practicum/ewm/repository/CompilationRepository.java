@@ -2,10 +2,30 @@ package ru.practicum.ewm.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.ewm.model.Compilation;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CompilationRepository extends JpaRepository<Compilation, Long> {
     List<Compilation> findByPinned(Boolean pinned, Pageable pageable);
+
+    @Query("SELECT c.id AS compilationId, e.id AS eventId FROM Compilation c JOIN c.events e " +
+            "WHERE c.id IN :compilationIds")
+    List<CompilationEventView> findEventIdsByCompilationIds(@Param("compilationIds") Collection<Long> compilationIds);
+
+    @Query("SELECT GREATEST(c.updatedOn, COALESCE(MAX(e.updatedOn), c.updatedOn), " +
+            "COALESCE(MAX(cat.updatedOn), c.updatedOn)) " +
+            "FROM Compilation c LEFT JOIN c.events e LEFT JOIN e.category cat " +
+            "WHERE c.id = :id GROUP BY c.id, c.updatedOn")
+    Optional<LocalDateTime> findLastModifiedById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Compilation c SET c.updatedOn = LOCAL DATETIME WHERE c.id = :id")
+    int touch(@Param("id") Long id);
 }
\ No newline at end of file
@@ -1,26 +1,79 @@
 package ru.practicum.ewm.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.ewm.dto.EventShortView;
 import ru.practicum.ewm.model.Event;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
-import ru.practicum.ewm.model.ParticipationRequest;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    @Query("SELECT e FROM Event e WHERE " +
+    String DISTANCE_KM = "6371.0 * ACOS(LEAST(1.0, " +
+            "COS(RADIANS(:lat)) * COS(RADIANS(e.location.lat)) * COS(RADIANS(e.location.lon) - RADIANS(:lon)) + " +
+            "SIN(RADIANS(:lat)) * SIN(RADIANS(e.location.lat))))";
+
+    String SEARCH_LAT_RANGE = ":lat - :radius / 111.0, :lat + :radius / 111.0, ";
+    String SEARCH_LON_DELTA = ":radius / (111.0 * COS(RADIANS(:lat)))";
+
+    // Bounding boxes of the search circle. A circle crossing the antimeridian has a box reaching past ±180;
+    // the copies shifted by ∓360 degrees cover the part that wraps around to the other side.
+    String SEARCH_BOXES = "(in_bounding_box(e.location.lat, e.location.lon, " + SEARCH_LAT_RANGE +
+            ":lon - " + SEARCH_LON_DELTA + ", :lon + " + SEARCH_LON_DELTA + ") " +
+            "OR in_bounding_box(e.location.lat, e.location.lon, " + SEARCH_LAT_RANGE +
+            ":lon + 360 - " + SEARCH_LON_DELTA + ", :lon + 360 + " + SEARCH_LON_DELTA + ") " +
+            "OR in_bounding_box(e.location.lat, e.location.lon, " + SEARCH_LAT_RANGE +
+            ":lon - 360 - " + SEARCH_LON_DELTA + ", :lon - 360 + " + SEARCH_LON_DELTA + "))";
+
+    String EVENT_SHORT_SELECT = "SELECT new ru.practicum.ewm.dto.EventShortView(" +
+            "e.id, e.annotation, c.id, c.name, e.confirmedRequests, e.eventDate, u.id, u.name, " +
+            "e.paid, e.title, e.views) " +
+            "FROM Event e JOIN e.category c JOIN e.initiator u ";
+
+    String PUBLIC_EVENTS_QUERY = EVENT_SHORT_SELECT +
+            "WHERE e.state = 'PUBLISHED' " +
+            "AND (COALESCE(:text, '') = '' OR " +
+            "     (LOWER(e.annotation) LIKE LOWER(CONCAT('%', :text, '%')) OR " +
+            "      LOWER(e.description) LIKE LOWER(CONCAT('%', :text, '%')))) " +
+            "AND (:#{#categories == null} = true OR e.category.id IN :categories) " +
+            "AND (:paid IS NULL OR e.paid = :paid) " +
+            "AND e.eventDate > :currentTime " +
+            "AND (:#{#rangeStart == null} = true OR e.eventDate >= :rangeStart) " +
+            "AND (:#{#rangeEnd == null} = true OR e.eventDate <= :rangeEnd) " +
+            "AND (:onlyAvailable = false OR e.participantLimit IS NULL OR e.participantLimit = 0 " +
+            "     OR e.confirmedRequests < e.participantLimit) " +
+            "AND (:#{#lat == null} = true OR (" +
+            "     " + SEARCH_BOXES + " " +
+            "     AND " + DISTANCE_KM + " <= :radius)) ";
+
+    String ADMIN_EVENTS_QUERY = "SELECT e FROM Event e WHERE " +
             "(:#{#users == null} = true OR e.initiator.id IN :users) AND " +
             "(:#{#states == null} = true OR e.state IN :states) AND " +
             "(:#{#categories == null} = true OR e.category.id IN :categories) AND " +
             "(:#{#rangeStart == null} = true OR e.eventDate >= :rangeStart) AND " +
-            "(:#{#rangeEnd == null} = true OR e.eventDate <= :rangeEnd)")
+            "(:#{#rangeEnd == null} = true OR e.eventDate <= :rangeEnd) ";
+
+    String EVENT_DATE_KEYSET = "AND e.eventDate >= :afterDate " +
+            "AND (e.eventDate > :afterDate OR e.id > :afterId) " +
+            "ORDER BY e.eventDate, e.id";
+
+    String VIEWS_KEYSET = "AND e.views <= :afterViews " +
+            "AND (e.views < :afterViews OR e.id > :afterId) " +
+            "ORDER BY e.views DESC, e.id";
+
+    @Query(ADMIN_EVENTS_QUERY + "ORDER BY e.eventDate, e.id")
+    @EntityGraph(Event.WITH_CATEGORY_AND_INITIATOR)
     List<Event> findEventsWithFilters(@Param("users") List<Long> users,
                                       @Param("states") List<Event.EventState> states,
                                       @Param("categories") List<Long> categories,
@@ -28,34 +81,183 @@ public interface EventRepository extends JpaRepository<Event, Long> {
                                       @Param("rangeEnd") LocalDateTime rangeEnd,
                                       Pageable pageable);
 
+    @Query(ADMIN_EVENTS_QUERY + EVENT_DATE_KEYSET)
+    @EntityGraph(Event.WITH_CATEGORY_AND_INITIATOR)
+    List<Event> findEventsWithFiltersAfter(@Param("users") List<Long> users,
+                                           @Param("states") List<Event.EventState> states,
+                                           @Param("categories") List<Long> categories,
+                                           @Param("rangeStart") LocalDateTime rangeStart,
+                                           @Param("rangeEnd") LocalDateTime rangeEnd,
+                                           @Param("afterDate") LocalDateTime afterDate,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
     default List<Event> findEventsWithFilters(List<Long> users, List<Event.EventState> states, List<Long> categories,
                                               LocalDateTime rangeStart, LocalDateTime rangeEnd, int from, int size) {
         Pageable pageable = PageRequest.of(from / size, size);
         return findEventsWithFilters(users, states, categories, rangeStart, rangeEnd, pageable);
     }
 
-    @Query("SELECT COUNT(pr) FROM ParticipationRequest pr WHERE pr.event.id = :eventId AND pr.status = :status")
-    Integer countConfirmedRequestsByEventId(@Param("eventId") Long eventId,
-                                            @Param("status") ParticipationRequest.Status status);
+    @Query(EVENT_SHORT_SELECT +
+            "WHERE e.initiator.id = :initiatorId " +
+            "ORDER BY e.eventDate DESC, e.id DESC")
+    List<EventShortView> findShortByInitiatorId(@Param("initiatorId") Long initiatorId, Pageable pageable);
 
-    @Query("SELECT e FROM Event e " +
-            "LEFT JOIN e.category c " +
-            "WHERE e.state = 'PUBLISHED' " +
-            "AND (COALESCE(:text, '') = '' OR " +
-            "     (LOWER(e.annotation) LIKE LOWER(CONCAT('%', :text, '%')) OR " +
-            "      LOWER(e.description) LIKE LOWER(CONCAT('%', :text, '%')))) " +
-            "AND (:categories IS NULL OR c.id IN :categories) " +
-            "AND (:paid IS NULL OR e.paid = :paid) " +
-            "AND e.eventDate > :currentTime")
-    List<Event> findPublicEventsWithFilters(
+    @Query(EVENT_SHORT_SELECT +
+            "WHERE e.initiator.id = :initiatorId " +
+            "AND e.eventDate <= :afterDate AND (e.eventDate < :afterDate OR e.id < :afterId) " +
+            "ORDER BY e.eventDate DESC, e.id DESC")
+    List<EventShortView> findShortByInitiatorIdAfter(@Param("initiatorId") Long initiatorId,
+                                                     @Param("afterDate") LocalDateTime afterDate,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    @Query(EVENT_SHORT_SELECT + "WHERE e.id IN :ids")
+    List<EventShortView> findShortByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Event e SET e.confirmedRequests = e.confirmedRequests + :count " +
+            "WHERE e.id = :eventId AND (e.participantLimit IS NULL OR e.participantLimit = 0 " +
+            "OR e.confirmedRequests + :count <= e.participantLimit)")
+    int incrementConfirmedRequests(@Param("eventId") Long eventId, @Param("count") int count);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Event e SET e.confirmedRequests = e.confirmedRequests - 1 " +
+            "WHERE e.id = :eventId AND e.confirmedRequests > 0")
+    int decrementConfirmedRequests(@Param("eventId") Long eventId);
+
+    @Query("SELECT e.confirmedRequests FROM Event e WHERE e.id = :eventId")
+    Integer findConfirmedRequestsById(@Param("eventId") Long eventId);
+
+    @Query(PUBLIC_EVENTS_QUERY + "ORDER BY e.eventDate, e.id")
+    List<EventShortView> findPublicEventsWithFilters(
+            @Param("text") String text,
+            @Param("categories") List<Long> categories,
+            @Param("paid") Boolean paid,
+            @Param("currentTime") LocalDateTime currentTime,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd,
+            @Param("onlyAvailable") boolean onlyAvailable,
+            @Param("lat") Double lat,
+            @Param("lon") Double lon,
+            @Param("radius") Double radius,
+            Pageable pageable);
+
+    @Query(PUBLIC_EVENTS_QUERY +
+            "ORDER BY GREATEST(FUNCTION('word_similarity', LOWER(:text), LOWER(e.annotation)), " +
+            "                  FUNCTION('word_similarity', LOWER(:text), LOWER(e.description))) DESC, " +
+            "e.eventDate, e.id")
+    List<EventShortView> findPublicEventsByRelevance(
             @Param("text") String text,
             @Param("categories") List<Long> categories,
             @Param("paid") Boolean paid,
             @Param("currentTime") LocalDateTime currentTime,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd,
+            @Param("onlyAvailable") boolean onlyAvailable,
+            @Param("lat") Double lat,
+            @Param("lon") Double lon,
+            @Param("radius") Double radius,
             Pageable pageable);
 
+    @Query(PUBLIC_EVENTS_QUERY + EVENT_DATE_KEYSET)
+    List<EventShortView> findPublicEventsAfter(
+            @Param("text") String text,
+            @Param("categories") List<Long> categories,
+            @Param("paid") Boolean paid,
+            @Param("currentTime") LocalDateTime currentTime,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd,
+            @Param("onlyAvailable") boolean onlyAvailable,
+            @Param("lat") Double lat,
+            @Param("lon") Double lon,
+            @Param("radius") Double radius,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query(PUBLIC_EVENTS_QUERY + "ORDER BY e.views DESC, e.id")
+    List<EventShortView> findPublicEventsOrderByViews(
+            @Param("text") String text,
+            @Param("categories") List<Long> categories,
+            @Param("paid") Boolean paid,
+            @Param("currentTime") LocalDateTime currentTime,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd,
+            @Param("onlyAvailable") boolean onlyAvailable,
+            @Param("lat") Double lat,
+            @Param("lon") Double lon,
+            @Param("radius") Double radius,
+            Pageable pageable);
+
+    @Query(PUBLIC_EVENTS_QUERY + "ORDER BY " + DISTANCE_KM + ", e.id")
+    List<EventShortView> findPublicEventsOrderByDistance(
+            @Param("text") String text,
+            @Param("categories") List<Long> categories,
+            @Param("paid") Boolean paid,
+            @Param("currentTime") LocalDateTime currentTime,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd,
+            @Param("onlyAvailable") boolean onlyAvailable,
+            @Param("lat") Double lat,
+            @Param("lon") Double lon,
+            @Param("radius") Double radius,
+            Pageable pageable);
+
+    @Query(PUBLIC_EVENTS_QUERY + VIEWS_KEYSET)
+    List<EventShortView> findPublicEventsOrderByViewsAfter(
+            @Param("text") String text,
+            @Param("categories") List<Long> categories,
+            @Param("paid") Boolean paid,
+            @Param("currentTime") LocalDateTime currentTime,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd,
+            @Param("onlyAvailable") boolean onlyAvailable,
+            @Param("lat") Double lat,
+            @Param("lon") Double lon,
+            @Param("radius") Double radius,
+            @Param("afterViews") Long afterViews,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query(value = "SELECT CAST(LEAST(:tiles - 1, FLOOR((e.lon + 180) / 360 * :tiles)) AS integer) AS x, " +
+            "CAST(LEAST(:tiles - 1, FLOOR((1 - LN(TAN(RADIANS(e.lat)) + 1 / COS(RADIANS(e.lat))) / PI()) / 2 " +
+            "* :tiles)) AS integer) AS y, " +
+            "COUNT(*) AS count, MIN(e.id) AS \"eventId\" " +
+            "FROM events e " +
+            "WHERE e.state = 'PUBLISHED' AND e.event_date > :currentTime " +
+            "AND point(e.lon, e.lat) <@ box(point(:minLon, :minLat), point(:maxLon, :maxLat)) " +
+            "GROUP BY 1, 2 " +
+            "ORDER BY 1, 2", nativeQuery = true)
+    List<EventTileView> findPublishedEventTiles(@Param("tiles") double tiles,
+                                                @Param("minLat") double minLat,
+                                                @Param("maxLat") double maxLat,
+                                                @Param("minLon") double minLon,
+                                                @Param("maxLon") double maxLon,
+                                                @Param("currentTime") LocalDateTime currentTime);
+
+    @Query("SELECT e.id AS id, e.category.id AS categoryId, e.eventDate AS eventDate, " +
+            "e.publishedOn AS publishedOn, e.views AS views, e.confirmedRequests AS confirmedRequests " +
+            "FROM Event e WHERE e.state = 'PUBLISHED' AND e.id > :afterId ORDER BY e.id")
+    List<PublishedEventStatsView> findPublishedEventStatsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "UPDATE events e SET views = v.views " +
+            "FROM unnest(CAST(:ids AS bigint[]), CAST(:views AS bigint[])) AS v(id, views) " +
+            "WHERE e.id = v.id AND e.views <> v.views", nativeQuery = true)
+    int updateViews(@Param("ids") Long[] ids, @Param("views") Long[] views);
+
     @Query("SELECT e FROM Event e WHERE e.id = :id AND e.state = 'PUBLISHED'")
+    @EntityGraph(Event.WITH_CATEGORY_AND_INITIATOR)
     Optional<Event> findPublishedEventById(@Param("id") Long id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT GREATEST(e.updatedOn, c.updatedOn) FROM Event e JOIN e.category c " +
+            "WHERE e.id = :id AND e.state = 'PUBLISHED'")
+    Optional<LocalDateTime> findPublishedLastModifiedById(@Param("id") Long id);
+
     List<Event> findByCategoryId(Long categoryId);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package ru.practicum.ewm.repository;
+
+public interface EventTileView {
+    Integer getX();
+
+    Integer getY();
+
+    Long getCount();
+
+    Long getEventId();
+}
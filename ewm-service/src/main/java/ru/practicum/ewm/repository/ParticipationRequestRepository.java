@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.ewm.model.ParticipationRequest;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ParticipationRequestRepository extends JpaRepository<ParticipationRequest, Long> {
@@ -15,13 +16,17 @@ public interface ParticipationRequestRepository extends JpaRepository<Participat
 
     boolean existsByEventIdAndRequesterId(Long eventId, Long requesterId);
 
-    @Query("SELECT COALESCE(COUNT(pr), 0) FROM ParticipationRequest pr " +
-            "WHERE pr.event.id = :eventId AND pr.status = :status")
-    Integer countByEventIdAndStatus(@Param("eventId") Long eventId,
-                                    @Param("status") ParticipationRequest.Status status);
-
-    @Query("SELECT pr FROM ParticipationRequest pr " +
-            "WHERE pr.event.id = :eventId AND pr.status = :status")
-    List<ParticipationRequest> findByEventIdAndStatus(@Param("eventId") Long eventId,
-                                                      @Param("status") ParticipationRequest.Status status);
+    @Query(value = "UPDATE participation_requests SET status = :status " +
+            "WHERE event_id = :eventId AND id IN (:ids) AND status = 'PENDING' " +
+            "RETURNING id, requester_id AS \"requesterId\", event_id AS \"eventId\", status, created",
+            nativeQuery = true)
+    List<ParticipationRequestView> updatePendingStatus(@Param("eventId") Long eventId,
+                                                       @Param("ids") Collection<Long> ids,
+                                                       @Param("status") String status);
+
+    @Query(value = "UPDATE participation_requests SET status = 'REJECTED' " +
+            "WHERE event_id = :eventId AND status = 'PENDING' " +
+            "RETURNING id, requester_id AS \"requesterId\", event_id AS \"eventId\", status, created",
+            nativeQuery = true)
+    List<ParticipationRequestView> rejectAllPending(@Param("eventId") Long eventId);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package ru.practicum.ewm.repository;
+
+import java.time.LocalDateTime;
+
+public interface ParticipationRequestView {
+    Long getId();
+
+    Long getRequesterId();
+
+    Long getEventId();
+
+    String getStatus();
+
+    LocalDateTime getCreated();
+}
@@ -0,0 +1,17 @@
+package ru.practicum.ewm.repository;
+
+import java.time.LocalDateTime;
+
+public interface PublishedEventStatsView {
+    Long getId();
+
+    Long getCategoryId();
+
+    LocalDateTime getEventDate();
+
+    LocalDateTime getPublishedOn();
+
+    Long getViews();
+
+    Integer getConfirmedRequests();
+}
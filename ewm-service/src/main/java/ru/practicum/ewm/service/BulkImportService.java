@@ -0,0 +1,97 @@
+package ru.practicum.ewm.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.ewm.dto.BulkImportResultDto;
+import ru.practicum.ewm.exception.ConditionsNotMetException;
+import ru.practicum.ewm.exception.ConflictException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+// The whole stream is imported in one transaction, so any rejected item rolls back every chunk before it.
+// Chunks only bound the JDBC batches and the persistence context.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${ewm.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public <T> BulkImportResultDto importItems(InputStream body, Class<T> type, ToIntFunction<List<T>> chunkImporter) {
+        Long imported = transactionTemplate.execute(status -> importAll(body, type, chunkImporter));
+        log.info("Bulk import of {} finished, {} items imported", type.getSimpleName(), imported);
+        return BulkImportResultDto.builder().imported(imported).build();
+    }
+
+    private <T> long importAll(InputStream body, Class<T> type, ToIntFunction<List<T>> chunkImporter) {
+        long imported = 0;
+        long index = 0;
+        List<T> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<T> items = objectMapper.readerFor(type).readValues(body)) {
+            while (items.hasNextValue()) {
+                T item = items.nextValue();
+                validate(item, index);
+                chunk.add(item);
+                index++;
+                if (chunk.size() == chunkSize) {
+                    imported += importChunk(chunk, chunkImporter, imported);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += importChunk(chunk, chunkImporter, imported);
+            }
+        } catch (JsonProcessingException e) {
+            throw new ConditionsNotMetException(String.format("Malformed item %d: %s, nothing was imported",
+                    index, e.getOriginalMessage()));
+        } catch (IOException e) {
+            throw new ConditionsNotMetException(String.format("Failed to read item %d: %s, nothing was imported",
+                    index, e.getMessage()));
+        }
+        return imported;
+    }
+
+    private <T> void validate(T item, long index) {
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<T> violation = violations.iterator().next();
+            throw new ConditionsNotMetException(String.format("Invalid item %d: %s %s, nothing was imported",
+                    index, violation.getPropertyPath(), violation.getMessage()));
+        }
+    }
+
+    private <T> int importChunk(List<T> chunk, ToIntFunction<List<T>> chunkImporter, long imported) {
+        try {
+            int count = chunkImporter.applyAsInt(chunk);
+            entityManager.clear();
+            return count;
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException(String.format("Chunk starting at item %d conflicts with existing data, "
+                    + "nothing was imported", imported));
+        } catch (RuntimeException e) {
+            log.warn("Bulk import chunk starting at item {} rejected: {}", imported, e.getMessage());
+            throw e;
+        }
+    }
+}
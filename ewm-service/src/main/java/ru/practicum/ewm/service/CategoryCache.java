@@ -0,0 +1,88 @@
+package ru.practicum.ewm.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.ewm.dto.CategoryDto;
+import ru.practicum.ewm.mapper.CategoryMapper;
+import ru.practicum.ewm.model.Category;
+import ru.practicum.ewm.repository.CategoryRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), List.of());
+
+    // Serialized so a scheduled reload that read the table before a commit cannot publish after the post-commit reload.
+    @PostConstruct
+    @Scheduled(initialDelayString = "${ewm.category-cache.refresh-interval-ms:60000}",
+            fixedDelayString = "${ewm.category-cache.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        Map<Long, Category> byId = new TreeMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            byId.put(category.getId(), copy(category));
+        }
+        snapshot = new Snapshot(byId, List.copyOf(byId.values()));
+        log.debug("Category cache refreshed, {} categories", byId.size());
+    }
+
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    public List<CategoryDto> getPage(int from, int size) {
+        List<Category> ordered = snapshot.ordered();
+        int start = from / size * size;
+        if (start >= ordered.size()) {
+            return new ArrayList<>();
+        }
+        return ordered.subList(start, Math.min(ordered.size(), start + size)).stream()
+                .map(categoryMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<CategoryDto> get(Long id) {
+        return Optional.ofNullable(snapshot.byId().get(id)).map(categoryMapper::toDto);
+    }
+
+    public Optional<LocalDateTime> getUpdatedOn(Long id) {
+        return Optional.ofNullable(snapshot.byId().get(id)).map(Category::getUpdatedOn);
+    }
+
+    public Optional<Category> getReference(Long id) {
+        return Optional.ofNullable(snapshot.byId().get(id)).map(this::copy);
+    }
+
+    private Category copy(Category category) {
+        return new Category(category.getId(), category.getName(), category.getUpdatedOn());
+    }
+
+    private record Snapshot(Map<Long, Category> byId, List<Category> ordered) {
+    }
+}
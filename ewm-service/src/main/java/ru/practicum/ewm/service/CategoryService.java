@@ -3,11 +3,14 @@ package ru.practicum.ewm.service;
 import ru.practicum.ewm.dto.CategoryDto;
 import ru.practicum.ewm.dto.NewCategoryDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CategoryService {
     CategoryDto addCategory(NewCategoryDto newCategoryDto);
 
+    int addCategories(List<NewCategoryDto> newCategoryDtos);
+
     void deleteCategory(Long catId);
 
     CategoryDto updateCategory(Long catId, CategoryDto categoryDto);
@@ -15,4 +18,6 @@ public interface CategoryService {
     List<CategoryDto> getCategories(int from, int size);
 
     CategoryDto getCategory(Long catId);
+
+    LocalDateTime getCategoryLastModified(Long catId);
 }
\ No newline at end of file
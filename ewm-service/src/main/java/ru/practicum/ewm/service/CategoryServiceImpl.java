@@ -1,8 +1,8 @@
 package ru.practicum.ewm.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.ewm.dto.CategoryDto;
 import ru.practicum.ewm.dto.NewCategoryDto;
@@ -13,7 +13,10 @@ import ru.practicum.ewm.model.Category;
 import ru.practicum.ewm.repository.CategoryRepository;
 import ru.practicum.ewm.repository.EventRepository;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +26,8 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final EventRepository eventRepository;
     private final CategoryMapper categoryMapper;
+    private final EventDetailCache eventDetailCache;
+    private final CategoryCache categoryCache;
 
     @Override
     public CategoryDto addCategory(NewCategoryDto dto) {
@@ -31,9 +36,32 @@ public class CategoryServiceImpl implements CategoryService {
         }
         Category category = categoryMapper.fromNewDto(dto);
         Category saved = categoryRepository.save(category);
+        categoryCache.refreshAfterCommit();
         return categoryMapper.toDto(saved);
     }
 
+    @Override
+    public int addCategories(List<NewCategoryDto> dtos) {
+        Set<String> names = new HashSet<>();
+        for (NewCategoryDto dto : dtos) {
+            if (!names.add(dto.getName())) {
+                throw new ConflictException("Поле name должно быть уникальным: " + dto.getName());
+            }
+        }
+        List<String> existing = categoryRepository.findExistingNames(names);
+        if (!existing.isEmpty()) {
+            throw new ConflictException("Поле name должно быть уникальным: " + existing.get(0));
+        }
+
+        List<Category> categories = dtos.stream()
+                .map(categoryMapper::fromNewDto)
+                .collect(Collectors.toList());
+        categoryRepository.saveAll(categories);
+        categoryRepository.flush();
+        categoryCache.refreshAfterCommit();
+        return categories.size();
+    }
+
     @Override
     public void deleteCategory(Long id) {
         if (!eventRepository.findByCategoryId(id).isEmpty()) {
@@ -41,6 +69,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         categoryRepository.deleteById(id);
+        categoryCache.refreshAfterCommit();
     }
 
     @Override
@@ -53,22 +82,28 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         category.setName(dto.getName());
+        eventDetailCache.evictAllAfterCommit();
+        categoryCache.refreshAfterCommit();
         return categoryMapper.toDto(categoryRepository.save(category));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<CategoryDto> getCategories(int from, int size) {
-        return categoryRepository.findAll(PageRequest.of(from / size, size)).stream()
-                .map(categoryMapper::toDto)
-                .collect(Collectors.toList());
+        return categoryCache.getPage(from, size);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CategoryDto getCategory(Long id) {
-        return categoryRepository.findById(id)
-                .map(categoryMapper::toDto)
+        return categoryCache.get(id)
+                .orElseThrow(() -> new NotFoundException("Категория с таким id не найдена"));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public LocalDateTime getCategoryLastModified(Long id) {
+        return categoryCache.getUpdatedOn(id)
                 .orElseThrow(() -> new NotFoundException("Категория с таким id не найдена"));
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package ru.practicum.ewm.service;
 
-import jakarta.servlet.http.HttpServletRequest;
 import ru.practicum.ewm.dto.CommentDto;
 import ru.practicum.ewm.dto.NewCommentDto;
 import ru.practicum.ewm.dto.UpdateCommentDto;
@@ -27,9 +26,9 @@ public interface CommentService {
     void deleteComment(Long commentId);
 
     List<CommentDto> findComments(Long eventId, List<Long> users, String rangeStart,
-                                  String rangeEnd, int from, int size, HttpServletRequest request);
+                                  String rangeEnd, int from, int size);
 
-    CommentDto getCommentById(Long commentId, HttpServletRequest request);
+    CommentDto getPublishedCommentById(Long commentId);
 
-    List<CommentDto> getEventComments(Long eventId, int from, int size, HttpServletRequest request);
+    List<CommentDto> getEventComments(Long eventId, int from, int size);
 }
\ No newline at end of file
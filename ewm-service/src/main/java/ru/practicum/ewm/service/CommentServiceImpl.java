@@ -1,6 +1,5 @@
 package ru.practicum.ewm.service;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,8 +18,6 @@ import ru.practicum.ewm.model.User;
 import ru.practicum.ewm.repository.CommentRepository;
 import ru.practicum.ewm.repository.EventRepository;
 import ru.practicum.ewm.repository.UserRepository;
-import ru.practicum.ewm.stats.client.StatisticsClient;
-import ru.practicum.ewm.stats.client.EndpointHit;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -36,7 +33,6 @@ public class CommentServiceImpl implements CommentService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final CommentMapper commentMapper;
-    private final StatisticsClient statisticsClient;
 
     @Override
     public CommentDto addComment(Long userId, NewCommentDto dto) {
@@ -164,7 +160,7 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public List<CommentDto> findComments(Long eventId, List<Long> users, String rangeStart,
-                                         String rangeEnd, int from, int size, HttpServletRequest request) {
+                                         String rangeEnd, int from, int size) {
 
         LocalDateTime start = null;
         LocalDateTime end = null;
@@ -185,15 +181,6 @@ public class CommentServiceImpl implements CommentService {
             throw new ConditionsNotMetException("Start date cannot be after end date");
         }
 
-        EndpointHit hitRequest = EndpointHit.builder()
-                .app("ewm-service")
-                .uri(request.getRequestURI())
-                .ip(request.getRemoteAddr())
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        statisticsClient.sendAccessRecord(hitRequest);
-
         Pageable pageable = PageRequest.of(from / size, size);
 
         List<Long> publishedEventIds = null;
@@ -218,17 +205,7 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional(readOnly = true)
-    public CommentDto getCommentById(Long commentId, HttpServletRequest request) {
-
-        EndpointHit hitRequest = EndpointHit.builder()
-                .app("ewm-service")
-                .uri(request.getRequestURI())
-                .ip(request.getRemoteAddr())
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        statisticsClient.sendAccessRecord(hitRequest);
-
+    public CommentDto getPublishedCommentById(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException("Comment not found"));
 
@@ -241,17 +218,7 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<CommentDto> getEventComments(Long eventId, int from, int size, HttpServletRequest request) {
-
-        EndpointHit hitRequest = EndpointHit.builder()
-                .app("ewm-service")
-                .uri(request.getRequestURI())
-                .ip(request.getRemoteAddr())
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        statisticsClient.sendAccessRecord(hitRequest);
-
+    public List<CommentDto> getEventComments(Long eventId, int from, int size) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new NotFoundException("Event not found"));
 
@@ -4,6 +4,7 @@ import ru.practicum.ewm.dto.CompilationDto;
 import ru.practicum.ewm.dto.NewCompilationDto;
 import ru.practicum.ewm.dto.UpdateCompilationRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CompilationService {
@@ -16,4 +17,6 @@ public interface CompilationService {
     List<CompilationDto> getCompilations(int from, int size, Boolean pinned);
 
     CompilationDto getCompilation(Long id);
+
+    LocalDateTime getCompilationLastModified(Long id);
 }
\ No newline at end of file
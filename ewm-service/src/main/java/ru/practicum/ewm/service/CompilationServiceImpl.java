@@ -8,14 +8,22 @@ import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.ewm.dto.*;
 import ru.practicum.ewm.exception.NotFoundException;
 import ru.practicum.ewm.mapper.CompilationMapper;
+import ru.practicum.ewm.mapper.EventMapper;
 import ru.practicum.ewm.model.Compilation;
 import ru.practicum.ewm.model.Event;
+import ru.practicum.ewm.repository.CompilationEventView;
 import ru.practicum.ewm.repository.CompilationRepository;
 import ru.practicum.ewm.repository.EventRepository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,16 +33,11 @@ public class CompilationServiceImpl implements CompilationService {
     private final CompilationRepository compilationRepository;
     private final EventRepository eventRepository;
     private final CompilationMapper compilationMapper;
+    private final EventMapper eventMapper;
 
     @Override
     public CompilationDto addCompilation(NewCompilationDto dto) {
-        Set<Event> events = new HashSet<>();
-        if (dto.getEvents() != null && !dto.getEvents().isEmpty()) {
-            events = dto.getEvents().stream()
-                    .map(id -> eventRepository.findById(id).orElseThrow(() ->
-                            new NotFoundException("Событие не найдено")))
-                    .collect(Collectors.toSet());
-        }
+        Set<Event> events = dto.getEvents() == null ? new HashSet<>() : findEvents(dto.getEvents());
 
         Compilation compilation = compilationMapper.fromNewDto(dto);
 
@@ -43,8 +46,8 @@ public class CompilationServiceImpl implements CompilationService {
         }
 
         compilation.setEvents(events);
-        Compilation saved = compilationRepository.save(compilation);
-        return compilationMapper.toDto(saved);
+        Compilation saved = compilationRepository.saveAndFlush(compilation);
+        return toDtos(List.of(saved)).get(0);
     }
 
     @Override
@@ -59,15 +62,14 @@ public class CompilationServiceImpl implements CompilationService {
             compilation.setPinned(dto.getPinned());
         }
         if (dto.getEvents() != null) {
-            Set<Event> events = dto.getEvents().stream()
-                    .map(eid -> eventRepository.findById(eid).orElseThrow(() ->
-                            new NotFoundException("Событие не найдено")))
-                    .collect(Collectors.toSet());
-            compilation.setEvents(events);
+            compilation.setEvents(findEvents(dto.getEvents()));
         }
 
-        Compilation updated = compilationRepository.save(compilation);
-        return compilationMapper.toDto(updated);
+        Compilation updated = compilationRepository.saveAndFlush(compilation);
+        if (dto.getEvents() != null) {
+            compilationRepository.touch(id);
+        }
+        return toDtos(List.of(updated)).get(0);
     }
 
     @Override
@@ -90,16 +92,68 @@ public class CompilationServiceImpl implements CompilationService {
             compilations = compilationRepository.findByPinned(pinned, pageable);
         }
 
-        return compilations.stream()
-                .map(compilationMapper::toDto)
-                .collect(Collectors.toList());
+        return toDtos(compilations);
     }
 
     @Override
     @Transactional(readOnly = true)
     public CompilationDto getCompilation(Long id) {
-        return compilationRepository.findById(id)
-                .map(compilationMapper::toDto)
+        Compilation compilation = compilationRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Подборка не найдена"));
+        return toDtos(List.of(compilation)).get(0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime getCompilationLastModified(Long id) {
+        return compilationRepository.findLastModifiedById(id)
+                .orElseThrow(() -> new NotFoundException("Подборка не найдена"));
+    }
+
+    private Set<Event> findEvents(Collection<Long> ids) {
+        Set<Long> eventIds = new HashSet<>(ids);
+        if (eventIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<Event> events = eventRepository.findAllById(eventIds);
+        if (events.size() != eventIds.size()) {
+            throw new NotFoundException("Событие не найдено");
+        }
+        return new HashSet<>(events);
+    }
+
+    private List<CompilationDto> toDtos(List<Compilation> compilations) {
+        if (compilations.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> compilationIds = compilations.stream()
+                .map(Compilation::getId)
+                .collect(Collectors.toList());
+        List<CompilationEventView> links = compilationRepository.findEventIdsByCompilationIds(compilationIds);
+
+        Set<Long> eventIds = links.stream()
+                .map(CompilationEventView::getEventId)
+                .collect(Collectors.toSet());
+        Map<Long, EventShortDto> events = eventIds.isEmpty() ? new HashMap<>() :
+                eventRepository.findShortByIdIn(eventIds).stream()
+                        .map(eventMapper::toShortDto)
+                        .collect(Collectors.toMap(EventShortDto::getId, Function.identity()));
+
+        Map<Long, Set<EventShortDto>> eventsByCompilation = new HashMap<>();
+        for (CompilationEventView link : links) {
+            EventShortDto event = events.get(link.getEventId());
+            if (event != null) {
+                eventsByCompilation.computeIfAbsent(link.getCompilationId(), id -> new HashSet<>()).add(event);
+            }
+        }
+
+        return compilations.stream()
+                .map(compilation -> {
+                    CompilationDto dto = compilationMapper.toDtoWithoutEvents(compilation);
+                    dto.setEvents(eventsByCompilation.getOrDefault(compilation.getId(), new HashSet<>()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
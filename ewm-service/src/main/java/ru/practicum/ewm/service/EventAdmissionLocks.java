@@ -0,0 +1,53 @@
+package ru.practicum.ewm.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.ewm.exception.ServiceUnavailableException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Queues admissions per event on this node so that waiting callers hold neither a pooled connection nor
+// the event row lock. Admission is first-come among callers of one node; across nodes the event row lock
+// taken in admitRequest serializes admissions in the order the database grants it. Events hashing to the
+// same stripe wait for each other, so ewm.admission.lock-stripes bounds the number of events admitted in
+// parallel.
+@Slf4j
+@Component
+public class EventAdmissionLocks {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+
+    public EventAdmissionLocks(@Value("${ewm.admission.lock-stripes:1024}") int stripeCount,
+                               @Value("${ewm.admission.lock-timeout-ms:5000}") long timeoutMs) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs));
+    }
+
+    public <T> T withEventLock(Long eventId, Supplier<T> action) {
+        ReentrantLock lock = stripes[Math.floorMod(Long.hashCode(eventId), stripes.length)];
+        try {
+            if (!lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Admission lock for event {} not acquired within {} ms", eventId, timeoutMs);
+                throw new ServiceUnavailableException(
+                        "Too many concurrent participation requests, try again later", retryAfterSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Participation request was interrupted", retryAfterSeconds);
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package ru.practicum.ewm.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.ewm.dto.EventFullDto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class EventDetailCache {
+
+    private final Map<Long, Entry> entries;
+    private final long ttlMs;
+    private final long viewsTtlMs;
+    private final Counter hits;
+    private final Counter misses;
+    private long generation;
+
+    public EventDetailCache(@Value("${ewm.event-cache.max-size:10000}") int maxSize,
+                            @Value("${ewm.event-cache.ttl-ms:60000}") long ttlMs,
+                            @Value("${ewm.event-cache.views-ttl-ms:2000}") long viewsTtlMs,
+                            MeterRegistry meterRegistry) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.ttlMs = ttlMs;
+        this.viewsTtlMs = viewsTtlMs;
+        this.hits = Counter.builder("ewm.event.cache.requests")
+                .tag("result", "hit")
+                .description("Published event detail cache lookups")
+                .register(meterRegistry);
+        this.misses = Counter.builder("ewm.event.cache.requests")
+                .tag("result", "miss")
+                .description("Published event detail cache lookups")
+                .register(meterRegistry);
+        Gauge.builder("ewm.event.cache.size", this, EventDetailCache::size)
+                .register(meterRegistry);
+    }
+
+    public synchronized EventFullDto get(Long eventId) {
+        Entry entry = entries.get(eventId);
+        if (entry == null || System.currentTimeMillis() - entry.loadedAt > ttlMs) {
+            entries.remove(eventId);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.event.toBuilder().build();
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    // Skips the put when an eviction ran after the caller read the generation, so a DTO loaded
+    // before a concurrent update committed cannot be cached past that update's eviction.
+    public synchronized void put(EventFullDto event, long loadedGeneration) {
+        if (loadedGeneration != generation) {
+            return;
+        }
+        entries.put(event.getId(), new Entry(event.toBuilder().build(), System.currentTimeMillis(), null, 0));
+    }
+
+    public synchronized Long getViews(Long eventId) {
+        Entry entry = entries.get(eventId);
+        if (entry == null || entry.views == null || System.currentTimeMillis() - entry.viewsLoadedAt > viewsTtlMs) {
+            return null;
+        }
+        return entry.views;
+    }
+
+    public synchronized void putViews(Long eventId, Long views) {
+        Entry entry = entries.get(eventId);
+        if (entry != null) {
+            entry.views = views;
+            entry.viewsLoadedAt = System.currentTimeMillis();
+        }
+    }
+
+    public synchronized void evict(Long eventId) {
+        generation++;
+        entries.remove(eventId);
+    }
+
+    public synchronized void evictAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public void evictAfterCommit(Long eventId) {
+        runAfterCommit(() -> evict(eventId));
+    }
+
+    public void evictAllAfterCommit() {
+        runAfterCommit(this::evictAll);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final EventFullDto event;
+        private final long loadedAt;
+        private Long views;
+        private long viewsLoadedAt;
+    }
+}
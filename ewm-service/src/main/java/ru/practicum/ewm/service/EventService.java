@@ -1,32 +1,41 @@
 package ru.practicum.ewm.service;
 
-import jakarta.servlet.http.HttpServletRequest;
 import ru.practicum.ewm.dto.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface EventService {
     EventFullDto addEvent(Long userId, NewEventDto newEventDto);
 
-    List<EventShortDto> getPublicEvents(String text, List<Long> categories, Boolean paid,
-                                        String rangeStart, String rangeEnd, boolean onlyAvailable,
-                                        String sort, int from, int size, HttpServletRequest request);
+    int addEvents(List<NewEventImportDto> newEvents);
 
-    EventFullDto getPublicEvent(Long id, HttpServletRequest request);
+    CursorPage<EventShortDto> getPublicEvents(String text, List<Long> categories, Boolean paid,
+                                              String rangeStart, String rangeEnd, boolean onlyAvailable,
+                                              Double lat, Double lon, Double radius,
+                                              String sort, int from, int size, String cursor);
+
+    List<EventShortDto> getTrendingEvents(Long categoryId, int limit);
+
+    EventFullDto getPublicEvent(Long id);
+
+    LocalDateTime getPublicEventLastModified(Long id);
+
+    List<EventTileDto> getEventTiles(int zoom, String bbox);
 
     EventFullDto getUserEvent(Long userId, Long eventId);
 
     EventFullDto updateEventByUser(Long userId, Long eventId, UpdateEventUserRequest requestDto);
 
-    List<EventShortDto> getUserEvents(Long userId, int from, int size);
+    CursorPage<EventShortDto> getUserEvents(Long userId, int from, int size, String cursor);
 
     List<ParticipationRequestDto> getEventParticipationRequests(Long userId, Long eventId);
 
     EventRequestStatusUpdateResult changeParticipationRequestStatus(
             Long userId, Long eventId, EventRequestStatusUpdateRequest statusUpdateRequest);
 
-    List<EventFullDto> findEventsAdmin(List<Long> userIds, List<String> states, List<Long> categories,
-                                       String rangeStart, String rangeEnd, int from, int size);
+    CursorPage<EventFullDto> findEventsAdmin(List<Long> userIds, List<String> states, List<Long> categories,
+                                            String rangeStart, String rangeEnd, int from, int size, String cursor);
 
     EventFullDto updateEventByAdmin(Long eventId, UpdateEventAdminRequest dto);
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package ru.practicum.ewm.service;
 
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.ewm.dto.*;
 import ru.practicum.ewm.exception.ConditionsNotMetException;
@@ -15,17 +17,22 @@ import ru.practicum.ewm.exception.NotFoundException;
 import ru.practicum.ewm.mapper.EventMapper;
 import ru.practicum.ewm.mapper.ParticipationRequestMapper;
 import ru.practicum.ewm.model.*;
-import ru.practicum.ewm.repository.CategoryRepository;
 import ru.practicum.ewm.repository.EventRepository;
 import ru.practicum.ewm.repository.ParticipationRequestRepository;
+import ru.practicum.ewm.repository.ParticipationRequestView;
 import ru.practicum.ewm.repository.UserRepository;
 import ru.practicum.ewm.stats.client.StatisticsClient;
-import ru.practicum.ewm.stats.client.EndpointHit;
 import ru.practicum.ewm.stats.client.ViewStats;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,21 +42,60 @@ import java.util.stream.Collectors;
 public class EventServiceImpl implements EventService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
     private final EventMapper eventMapper;
     private final ParticipationRequestRepository participationRequestRepository;
     private final ParticipationRequestMapper participationRequestMapper;
     private final StatisticsClient statsClient;
+    private final EventDetailCache eventDetailCache;
+    private final TrendingEventTracker trendingEventTracker;
+    private final ExecutorService statsExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${ewm.stats.deadline-ms:300}")
+    private long statsDeadlineMs;
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final double DEFAULT_SEARCH_RADIUS_KM = 10.0;
+    private static final int MAX_TILE_ZOOM = 22;
+    private static final double MAX_MERCATOR_LAT = 85.0511;
+    private static final String EVENT_URI_PREFIX = "/events/";
+    private static final LocalDateTime STATISTICS_START = LocalDateTime.of(2000, 1, 1, 0, 0);
 
     @Override
     public EventFullDto addEvent(Long userId, NewEventDto dto) {
         User initiator = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User not found"));
-        Category category = categoryRepository.findById(dto.getCategory())
+        Category category = categoryCache.getReference(dto.getCategory())
                 .orElseThrow(() -> new NotFoundException("Category not found"));
 
+        Event saved = eventRepository.save(createEvent(dto, initiator, category));
+        return eventMapper.toFullDto(saved);
+    }
+
+    @Override
+    public int addEvents(List<NewEventImportDto> newEvents) {
+        Map<Long, User> initiators = userRepository.findAllById(newEvents.stream()
+                        .map(NewEventImportDto::getInitiator)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+
+        List<Event> events = new ArrayList<>(newEvents.size());
+        for (NewEventImportDto newEvent : newEvents) {
+            User initiator = initiators.get(newEvent.getInitiator());
+            if (initiator == null) {
+                throw new NotFoundException("User not found: " + newEvent.getInitiator());
+            }
+            Category category = categoryCache.getReference(newEvent.getEvent().getCategory())
+                    .orElseThrow(() -> new NotFoundException("Category not found: "
+                            + newEvent.getEvent().getCategory()));
+            events.add(createEvent(newEvent.getEvent(), initiator, category));
+        }
+        eventRepository.saveAll(events);
+        eventRepository.flush();
+        return events.size();
+    }
+
+    private Event createEvent(NewEventDto dto, User initiator, Category category) {
         if (dto.getParticipantLimit() == null) {
             dto.setParticipantLimit(0);
         }
@@ -72,16 +118,15 @@ public class EventServiceImpl implements EventService {
         event.setCategory(category);
         event.setCreatedOn(LocalDateTime.now());
         event.setState(Event.EventState.PENDING);
-
-        Event saved = eventRepository.save(event);
-        return eventMapper.toFullDto(saved);
+        return event;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<EventShortDto> getPublicEvents(String text, List<Long> categories, Boolean paid,
-                                               String rangeStart, String rangeEnd, boolean onlyAvailable,
-                                               String sort, int from, int size, HttpServletRequest request) {
+    public CursorPage<EventShortDto> getPublicEvents(String text, List<Long> categories, Boolean paid,
+                                                     String rangeStart, String rangeEnd, boolean onlyAvailable,
+                                                     Double lat, Double lon, Double radius,
+                                                     String sort, int from, int size, String cursor) {
 
         LocalDateTime startDate = parseDateTime(rangeStart);
         LocalDateTime endDate = parseDateTime(rangeEnd);
@@ -91,71 +136,101 @@ public class EventServiceImpl implements EventService {
             throw new ConditionsNotMetException("Invalid date range: start date after end date");
         }
 
-        EndpointHit hitRequest = EndpointHit.builder()
-                .app("ewm-service")
-                .uri(request.getRequestURI())
-                .ip(request.getRemoteAddr())
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        statsClient.sendAccessRecord(hitRequest);
-
-        int maxSize = Math.min(size, 100);
-        Pageable pageable = PageRequest.of(from / maxSize, Math.max(maxSize, 10));
-
-        List<Event> events = eventRepository.findPublicEventsWithFilters(
-                text, categories, paid, now, pageable);
-
-        if (startDate != null || endDate != null) {
-            events = events.stream()
-                    .filter(event -> {
-                        LocalDateTime eventDate = event.getEventDate();
-                        boolean afterStart = startDate == null || !eventDate.isBefore(startDate);
-                        boolean beforeEnd = endDate == null || !eventDate.isAfter(endDate);
-                        return afterStart && beforeEnd;
-                    })
-                    .collect(Collectors.toList());
+        if ((lat == null) != (lon == null)) {
+            throw new ConditionsNotMetException("Both lat and lon must be specified for location search");
         }
-
-        if (onlyAvailable) {
-            events = events.stream()
-                    .filter(this::isEventAvailable)
-                    .collect(Collectors.toList());
+        if (lat != null) {
+            if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+                throw new ConditionsNotMetException("Invalid coordinates");
+            }
+            if (radius == null) {
+                radius = DEFAULT_SEARCH_RADIUS_KM;
+            } else if (radius <= 0) {
+                throw new ConditionsNotMetException("Search radius must be positive");
+            }
+        }
+        if ("DISTANCE".equals(sort) && lat == null) {
+            throw new ConditionsNotMetException("DISTANCE sort requires lat and lon");
         }
 
-        Map<String, Long> viewsMap = getViewsForEvents(events);
-
-        List<EventShortDto> eventDtos = events.stream()
-                .map(event -> {
-                    EventShortDto shortDto = eventMapper.toShortDto(event);
-                    String eventUri = "/events/" + event.getId();
-                    shortDto.setViews(viewsMap.getOrDefault(eventUri, 0L));
-
-                    Integer confirmedRequests = eventRepository.countConfirmedRequestsByEventId(
-                            event.getId(), ParticipationRequest.Status.CONFIRMED);
-                    shortDto.setConfirmedRequests(confirmedRequests != null ? confirmedRequests : 0);
-
-                    return shortDto;
-                })
-                .collect(Collectors.toList());
+        boolean byRelevance = sort == null && text != null && !text.isBlank();
+        EventCursor.Order order = "DISTANCE".equals(sort) || byRelevance ? null
+                : "VIEWS".equals(sort) ? EventCursor.Order.VIEWS : EventCursor.Order.EVENT_DATE;
+        if (order == null && cursor != null && !cursor.isBlank()) {
+            throw new ConditionsNotMetException("Cursor pagination is not supported for relevance and DISTANCE sort");
+        }
+        long filters = EventCursor.filters("public", text, categories, paid, startDate, endDate, onlyAvailable,
+                lat, lon, radius);
+        EventCursor after = order == null ? null : EventCursor.decode(cursor, order, filters);
 
-        if ("VIEWS".equals(sort)) {
-            eventDtos.sort((e1, e2) -> Long.compare(e2.getViews(), e1.getViews()));
+        int maxSize = Math.min(size, 100);
+        Pageable pageable = PageRequest.of(from / maxSize, maxSize);
+
+        List<EventShortView> events;
+        if ("DISTANCE".equals(sort)) {
+            events = eventRepository.findPublicEventsOrderByDistance(
+                    text, categories, paid, now, startDate, endDate, onlyAvailable, lat, lon, radius, pageable);
+        } else if ("VIEWS".equals(sort)) {
+            events = after == null
+                    ? eventRepository.findPublicEventsOrderByViews(text, categories, paid, now, startDate, endDate,
+                            onlyAvailable, lat, lon, radius, pageable)
+                    : eventRepository.findPublicEventsOrderByViewsAfter(text, categories, paid, now, startDate,
+                            endDate, onlyAvailable, lat, lon, radius, after.getViews(), after.getId(),
+                            PageRequest.of(0, maxSize));
+        } else if (after != null) {
+            events = eventRepository.findPublicEventsAfter(text, categories, paid, now, startDate, endDate,
+                    onlyAvailable, lat, lon, radius, after.getEventDate(), after.getId(), PageRequest.of(0, maxSize));
+        } else if (byRelevance) {
+            events = eventRepository.findPublicEventsByRelevance(
+                    text, categories, paid, now, startDate, endDate, onlyAvailable, lat, lon, radius, pageable);
         } else {
-            eventDtos.sort((e1, e2) -> e1.getEventDate().compareTo(e2.getEventDate()));
+            events = eventRepository.findPublicEventsWithFilters(
+                    text, categories, paid, now, startDate, endDate, onlyAvailable, lat, lon, radius, pageable);
         }
 
-        return eventDtos;
+        String nextCursor = order == null ? null : EventCursor.next(events, maxSize, order, filters,
+                order == EventCursor.Order.VIEWS ? EventShortView::getViews : EventShortView::getEventDate,
+                EventShortView::getId);
+        return new CursorPage<>(events.stream()
+                .map(eventMapper::toShortDto)
+                .collect(Collectors.toList()), nextCursor);
     }
 
-    private boolean isEventAvailable(Event event) {
-        if (event.getParticipantLimit() == null || event.getParticipantLimit() == 0) {
-            return true;
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventTileDto> getEventTiles(int zoom, String bbox) {
+        if (zoom < 0 || zoom > MAX_TILE_ZOOM) {
+            throw new ConditionsNotMetException("Zoom must be between 0 and " + MAX_TILE_ZOOM);
         }
 
-        Integer confirmedRequests = eventRepository.countConfirmedRequestsByEventId(event.getId(),
-                ParticipationRequest.Status.CONFIRMED);
-        return confirmedRequests < event.getParticipantLimit();
+        double[] bounds;
+        try {
+            bounds = Arrays.stream(bbox.split(","))
+                    .map(String::trim)
+                    .mapToDouble(Double::parseDouble)
+                    .toArray();
+        } catch (NumberFormatException e) {
+            throw new ConditionsNotMetException("Invalid bbox format. Expected: minLon,minLat,maxLon,maxLat");
+        }
+        if (bounds.length != 4 || bounds[0] > bounds[2] || bounds[1] > bounds[3]) {
+            throw new ConditionsNotMetException("Invalid bbox format. Expected: minLon,minLat,maxLon,maxLat");
+        }
+
+        double minLon = Math.max(bounds[0], -180);
+        double minLat = Math.max(bounds[1], -MAX_MERCATOR_LAT);
+        double maxLon = Math.min(bounds[2], 180);
+        double maxLat = Math.min(bounds[3], MAX_MERCATOR_LAT);
+
+        return eventRepository.findPublishedEventTiles(1 << zoom, minLat, maxLat, minLon, maxLon,
+                        LocalDateTime.now()).stream()
+                .map(tile -> EventTileDto.builder()
+                        .zoom(zoom)
+                        .x(tile.getX())
+                        .y(tile.getY())
+                        .count(tile.getCount())
+                        .eventId(tile.getEventId())
+                        .build())
+                .collect(Collectors.toList());
     }
 
     private LocalDateTime parseDateTime(String dateTimeString) {
@@ -170,40 +245,74 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public EventFullDto getPublicEvent(Long id, HttpServletRequest request) {
-        Event event = eventRepository.findPublishedEventById(id)
-                .orElseThrow(() -> new NotFoundException("Event not found"));
-
-        EndpointHit hitDto = EndpointHit.builder()
-                .app("ewm-service")
-                .uri(request.getRequestURI())
-                .ip(request.getRemoteAddr())
-                .timestamp(LocalDateTime.now())
-                .build();
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<EventShortDto> getTrendingEvents(Long categoryId, int limit) {
+        if (limit < 1 || limit > trendingEventTracker.getTopK()) {
+            throw new ConditionsNotMetException("Limit must be between 1 and " + trendingEventTracker.getTopK());
+        }
+        return trendingEventTracker.getTrending(categoryId, limit);
+    }
 
-        statsClient.sendAccessRecord(hitDto);
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public EventFullDto getPublicEvent(Long id) {
+        Long cachedViews = eventDetailCache.getViews(id);
+        CompletableFuture<Long> views = cachedViews != null ? CompletableFuture.completedFuture(cachedViews)
+                : CompletableFuture.supplyAsync(() -> fetchViews(id), statsExecutor);
+
+        EventFullDto eventDto = eventDetailCache.get(id);
+        if (eventDto == null) {
+            long generation = eventDetailCache.generation();
+            Optional<Event> event = eventRepository.findPublishedEventById(id);
+            if (event.isEmpty()) {
+                throw new NotFoundException("Event not found");
+            }
+            eventDto = eventMapper.toFullDto(event.get());
+            eventDetailCache.put(eventDto, generation);
+        }
 
-        Integer confirmedRequests = eventRepository.countConfirmedRequestsByEventId(id,
-                ParticipationRequest.Status.CONFIRMED);
+        eventDto.setViews(awaitViews(id, views, eventDto.getViews()));
+        return eventDto;
+    }
 
-        List<ViewStats> statsResponse = statsClient.fetchAccessStatistics(
-                event.getCreatedOn(),
-                LocalDateTime.now(),
-                List.of(request.getRequestURI()),
-                true);
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime getPublicEventLastModified(Long id) {
+        return eventRepository.findPublishedLastModifiedById(id)
+                .orElseThrow(() -> new NotFoundException("Event not found"));
+    }
 
-        Long views = statsResponse.stream()
-                .filter(stat -> stat.getUri().equals(request.getRequestURI()))
+    private Long fetchViews(Long id) {
+        String uri = EVENT_URI_PREFIX + id;
+        return statsClient.fetchAccessStatistics(STATISTICS_START, LocalDateTime.now(), List.of(uri), true).stream()
+                .filter(stat -> stat.getUri().equals(uri))
                 .findFirst()
                 .map(ViewStats::getHits)
                 .orElse(0L);
+    }
 
-        EventFullDto eventDto = eventMapper.toFullDto(event);
-        eventDto.setConfirmedRequests(confirmedRequests != null ? confirmedRequests : 0);
-        eventDto.setViews(views);
+    // A fetch that misses the deadline keeps running in the background until the stats client's read timeout.
+    private Long awaitViews(Long id, CompletableFuture<Long> views, Long fallback) {
+        Long result;
+        try {
+            result = views.get(statsDeadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Views of event {} not fetched within {} ms, serving stored value", id, statsDeadlineMs);
+            return fallback;
+        } catch (ExecutionException e) {
+            log.warn("Failed to fetch views of event {}, serving stored value: {}", id, e.getCause().getMessage());
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        }
+        eventDetailCache.putViews(id, result);
+        return result;
+    }
 
-        return eventDto;
+    @PreDestroy
+    public void shutdownStatsExecutor() {
+        statsExecutor.shutdownNow();
     }
 
     @Override
@@ -215,12 +324,7 @@ public class EventServiceImpl implements EventService {
             throw new ForbiddenException("Cannot access another user's event");
         }
 
-        EventFullDto eventDto = eventMapper.toFullDto(event);
-        Integer confirmedRequests = eventRepository.countConfirmedRequestsByEventId(eventId,
-                ParticipationRequest.Status.CONFIRMED);
-        eventDto.setConfirmedRequests(confirmedRequests != null ? confirmedRequests : 0);
-
-        return eventDto;
+        return eventMapper.toFullDto(event);
     }
 
     @Override
@@ -250,7 +354,7 @@ public class EventServiceImpl implements EventService {
         }
 
         if (requestDto.getCategory() != null) {
-            Category category = categoryRepository.findById(requestDto.getCategory())
+            Category category = categoryCache.getReference(requestDto.getCategory())
                     .orElseThrow(() -> new NotFoundException("Category not found"));
             event.setCategory(category);
         }
@@ -293,47 +397,26 @@ public class EventServiceImpl implements EventService {
         }
 
         Event savedEvent = eventRepository.save(event);
-        EventFullDto eventDto = eventMapper.toFullDto(savedEvent);
-
-        Integer confirmedRequests = eventRepository.countConfirmedRequestsByEventId(eventId,
-                ParticipationRequest.Status.CONFIRMED);
-        eventDto.setConfirmedRequests(confirmedRequests != null ? confirmedRequests : 0);
-
-        return eventDto;
+        eventDetailCache.evictAfterCommit(eventId);
+        return eventMapper.toFullDto(savedEvent);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<EventShortDto> getUserEvents(Long userId, int from, int size) {
-        Pageable pageable = PageRequest.of(from / size, size);
-
-        // Используем существующий метод или создаем stream фильтрацию
-        List<Event> events = eventRepository.findAll().stream()
-                .filter(event -> event.getInitiator().getId().equals(userId))
-                .sorted((e1, e2) -> e2.getEventDate().compareTo(e1.getEventDate()))
-                .skip(from)
-                .limit(size)
-                .collect(Collectors.toList());
-
-        if (events.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        Map<String, Long> viewsMap = getViewsForEvents(events);
-
-        return events.stream()
-                .map(event -> {
-                    EventShortDto shortDto = eventMapper.toShortDto(event);
-                    String eventUri = "/events/" + event.getId();
-                    shortDto.setViews(viewsMap.getOrDefault(eventUri, 0L));
-
-                    Integer confirmedRequests = eventRepository.countConfirmedRequestsByEventId(
-                            event.getId(), ParticipationRequest.Status.CONFIRMED);
-                    shortDto.setConfirmedRequests(confirmedRequests != null ? confirmedRequests : 0);
-
-                    return shortDto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<EventShortDto> getUserEvents(Long userId, int from, int size, String cursor) {
+        long filters = EventCursor.filters("user", userId);
+        EventCursor after = EventCursor.decode(cursor, EventCursor.Order.EVENT_DATE_DESC, filters);
+
+        List<EventShortView> events = after == null
+                ? eventRepository.findShortByInitiatorId(userId, PageRequest.of(from / size, size))
+                : eventRepository.findShortByInitiatorIdAfter(userId, after.getEventDate(), after.getId(),
+                        PageRequest.of(0, size));
+
+        String nextCursor = EventCursor.next(events, size, EventCursor.Order.EVENT_DATE_DESC, filters,
+                EventShortView::getEventDate, EventShortView::getId);
+        return new CursorPage<>(events.stream()
+                .map(eventMapper::toShortDto)
+                .collect(Collectors.toList()), nextCursor);
     }
 
     @Override
@@ -360,70 +443,41 @@ public class EventServiceImpl implements EventService {
             throw new ForbiddenException("Cannot update another user's event");
         }
 
-        List<Long> requestIds = statusUpdateRequest.getRequestIds();
-        EventRequestStatusUpdateRequest.Status newStatus = statusUpdateRequest.getStatus();
-
-        List<ParticipationRequest> requests = participationRequestRepository.findAllById(requestIds);
-
-        for (ParticipationRequest request : requests) {
-            if (!request.getEvent().getId().equals(eventId)) {
-                throw new ConflictException("Request does not belong to this event");
-            }
-            if (!ParticipationRequest.Status.PENDING.equals(request.getStatus())) {
-                throw new ConflictException("Cannot change status of non-pending request");
-            }
-        }
+        eventDetailCache.evictAfterCommit(eventId);
 
-        Integer currentConfirmedCount = participationRequestRepository
-                .countByEventIdAndStatus(eventId, ParticipationRequest.Status.CONFIRMED);
-        int confirmedCount = currentConfirmedCount != null ? currentConfirmedCount : 0;
+        Set<Long> requestIds = statusUpdateRequest.getRequestIds() == null ? Set.of()
+                : new HashSet<>(statusUpdateRequest.getRequestIds());
+        EventRequestStatusUpdateRequest.Status newStatus = statusUpdateRequest.getStatus();
 
         Integer participantLimit = event.getParticipantLimit();
-        boolean hasLimit = participantLimit != null && participantLimit > 0;
+        boolean moderated = participantLimit != null && participantLimit > 0
+                && !Boolean.FALSE.equals(event.getRequestModeration());
+        boolean confirm = !moderated || EventRequestStatusUpdateRequest.Status.CONFIRMED.equals(newStatus);
 
         List<ParticipationRequestDto> confirmedRequests = new ArrayList<>();
         List<ParticipationRequestDto> rejectedRequests = new ArrayList<>();
 
-        if (!hasLimit || Boolean.FALSE.equals(event.getRequestModeration())) {
-            for (ParticipationRequest request : requests) {
-                request.setStatus(ParticipationRequest.Status.CONFIRMED);
-                confirmedRequests.add(participationRequestMapper.toDto(request));
+        if (!requestIds.isEmpty()) {
+            if (confirm && eventRepository.incrementConfirmedRequests(eventId, requestIds.size()) == 0) {
+                throw new ConflictException("Participant limit reached for this event");
             }
-            participationRequestRepository.saveAll(requests);
-            return EventRequestStatusUpdateResult.builder()
-                    .confirmedRequests(confirmedRequests)
-                    .rejectedRequests(rejectedRequests)
-                    .build();
-        }
-
-        for (ParticipationRequest request : requests) {
-            if (EventRequestStatusUpdateRequest.Status.CONFIRMED.equals(newStatus)) {
-                if (confirmedCount >= participantLimit) {
-                    throw new ConflictException("Participant limit reached for this event");
-                }
-                request.setStatus(ParticipationRequest.Status.CONFIRMED);
-                confirmedRequests.add(participationRequestMapper.toDto(request));
-                confirmedCount++;
-            } else if (EventRequestStatusUpdateRequest.Status.REJECTED.equals(newStatus)) {
-                request.setStatus(ParticipationRequest.Status.REJECTED);
-                rejectedRequests.add(participationRequestMapper.toDto(request));
+            ParticipationRequest.Status status = confirm
+                    ? ParticipationRequest.Status.CONFIRMED : ParticipationRequest.Status.REJECTED;
+            List<ParticipationRequestView> updated = participationRequestRepository
+                    .updatePendingStatus(eventId, requestIds, status.name());
+            if (updated.size() != requestIds.size()) {
+                throw new ConflictException("Only pending requests of this event can change status");
             }
+            List<ParticipationRequestDto> target = confirm ? confirmedRequests : rejectedRequests;
+            updated.stream()
+                    .map(participationRequestMapper::toDto)
+                    .forEach(target::add);
         }
 
-        participationRequestRepository.saveAll(requests);
-
-        if (confirmedCount >= participantLimit) {
-            List<ParticipationRequest> pendingRequests = participationRequestRepository
-                    .findByEventIdAndStatus(eventId, ParticipationRequest.Status.PENDING);
-
-            for (ParticipationRequest pendingRequest : pendingRequests) {
-                pendingRequest.setStatus(ParticipationRequest.Status.REJECTED);
-                rejectedRequests.add(participationRequestMapper.toDto(pendingRequest));
-            }
-
-            if (!pendingRequests.isEmpty()) {
-                participationRequestRepository.saveAll(pendingRequests);
-            }
+        if (moderated && eventRepository.findConfirmedRequestsById(eventId) >= participantLimit) {
+            participationRequestRepository.rejectAllPending(eventId).stream()
+                    .map(participationRequestMapper::toDto)
+                    .forEach(rejectedRequests::add);
         }
 
         return EventRequestStatusUpdateResult.builder()
@@ -434,8 +488,9 @@ public class EventServiceImpl implements EventService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<EventFullDto> findEventsAdmin(List<Long> userIds, List<String> states, List<Long> categories,
-                                              String rangeStart, String rangeEnd, int from, int size) {
+    public CursorPage<EventFullDto> findEventsAdmin(List<Long> userIds, List<String> states, List<Long> categories,
+                                                    String rangeStart, String rangeEnd, int from, int size,
+                                                    String cursor) {
 
         LocalDateTime start = parseDateTime(rangeStart);
         LocalDateTime end = parseDateTime(rangeEnd);
@@ -447,74 +502,22 @@ public class EventServiceImpl implements EventService {
                     .collect(Collectors.toList());
         }
 
-        Pageable pageable = PageRequest.of(from / size, size);
-        List<Event> events = eventRepository.findEventsWithFilters(userIds, eventStates, categories, start, end, pageable);
-
-        if (events.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        Map<String, Long> viewsMap = getViewsForEvents(events);
-
-        return events.stream()
-                .map(event -> mapToEventFullDto(event, viewsMap))
-                .collect(Collectors.toList());
-    }
-
-    private EventFullDto mapToEventFullDto(Event event, Map<String, Long> viewsMap) {
-        EventFullDto dto = eventMapper.toFullDto(event);
-
-        Integer confirmedRequests = eventRepository.countConfirmedRequestsByEventId(
-                event.getId(),
-                ParticipationRequest.Status.CONFIRMED
-        );
-        dto.setConfirmedRequests(confirmedRequests != null ? confirmedRequests : 0);
-
-        String eventUri = "/events/" + event.getId();
-        Long views = viewsMap.getOrDefault(eventUri, 0L);
-        dto.setViews(views);
-
-        return dto;
-    }
-
-    private Map<String, Long> getViewsForEvents(List<Event> events) {
-        if (events.isEmpty()) {
-            return new HashMap<>();
+        long filters = EventCursor.filters("admin", userIds, eventStates, categories, start, end);
+        EventCursor after = EventCursor.decode(cursor, EventCursor.Order.EVENT_DATE, filters);
+        List<Event> events;
+        if (after == null) {
+            Pageable pageable = PageRequest.of(from / size, size);
+            events = eventRepository.findEventsWithFilters(userIds, eventStates, categories, start, end, pageable);
+        } else {
+            events = eventRepository.findEventsWithFiltersAfter(userIds, eventStates, categories, start, end,
+                    after.getEventDate(), after.getId(), PageRequest.of(0, size));
         }
 
-        List<String> uris = events.stream()
-                .map(event -> "/events/" + event.getId())
-                .collect(Collectors.toList());
-
-        LocalDateTime start = events.stream()
-                .map(Event::getCreatedOn)
-                .min(LocalDateTime::compareTo)
-                .orElse(LocalDateTime.now().minusYears(1));
-
-        LocalDateTime end = LocalDateTime.now();
-
-        try {
-            List<ViewStats> stats = statsClient.fetchAccessStatistics(start, end, uris, true);
-
-            Map<String, Long> viewsMap = new HashMap<>();
-
-            for (ViewStats stat : stats) {
-                viewsMap.put(stat.getUri(), stat.getHits());
-            }
-
-            for (String uri : uris) {
-                viewsMap.putIfAbsent(uri, 0L);
-            }
-
-            return viewsMap;
-        } catch (Exception e) {
-            log.warn("Failed to get views statistics", e);
-            Map<String, Long> viewsMap = new HashMap<>();
-            for (Event event : events) {
-                viewsMap.put("/events/" + event.getId(), 0L);
-            }
-            return viewsMap;
-        }
+        String nextCursor = EventCursor.next(events, size, EventCursor.Order.EVENT_DATE, filters,
+                Event::getEventDate, Event::getId);
+        return new CursorPage<>(events.stream()
+                .map(eventMapper::toFullDto)
+                .collect(Collectors.toList()), nextCursor);
     }
 
     @Override
@@ -545,7 +548,7 @@ public class EventServiceImpl implements EventService {
         }
 
         if (dto.getCategory() != null) {
-            Category category = categoryRepository.findById(dto.getCategory())
+            Category category = categoryCache.getReference(dto.getCategory())
                     .orElseThrow(() -> new NotFoundException("Category not found"));
             event.setCategory(category);
         }
@@ -575,6 +578,7 @@ public class EventServiceImpl implements EventService {
             event.setTitle(dto.getTitle());
         }
         Event updated = eventRepository.save(event);
-        return mapToEventFullDto(updated, getViewsForEvents(List.of(updated)));
+        eventDetailCache.evictAfterCommit(eventId);
+        return eventMapper.toFullDto(updated);
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package ru.practicum.ewm.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.ewm.repository.EventRepository;
+import ru.practicum.ewm.repository.PublishedEventStatsView;
+import ru.practicum.ewm.stats.client.StatisticsClient;
+import ru.practicum.ewm.stats.client.ViewStats;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventViewsRefresher {
+
+    private static final LocalDateTime STATISTICS_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final String EVENT_URI_PREFIX = "/events/";
+
+    private final EventRepository eventRepository;
+    private final StatisticsClient statsClient;
+    private final TransactionTemplate transactionTemplate;
+    private final TrendingEventTracker trendingEventTracker;
+
+    @Value("${ewm.views.refresh-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${ewm.views.refresh-interval-ms:30000}",
+            fixedDelayString = "${ewm.views.refresh-interval-ms:30000}")
+    public void refreshViews() {
+        long afterId = 0;
+        int updated = 0;
+        Set<Long> publishedEventIds = new HashSet<>();
+        LocalDateTime end = LocalDateTime.now();
+        while (true) {
+            List<PublishedEventStatsView> events = eventRepository.findPublishedEventStatsAfter(afterId,
+                    PageRequest.of(0, batchSize));
+            if (events.isEmpty()) {
+                break;
+            }
+            updated += refreshBatch(events, end);
+            events.forEach(event -> publishedEventIds.add(event.getId()));
+            afterId = events.get(events.size() - 1).getId();
+        }
+        trendingEventTracker.retainOnly(publishedEventIds);
+        log.debug("Event views refreshed, {} events updated", updated);
+    }
+
+    private int refreshBatch(List<PublishedEventStatsView> events, LocalDateTime end) {
+        List<String> uris = events.stream()
+                .map(event -> EVENT_URI_PREFIX + event.getId())
+                .collect(Collectors.toList());
+
+        Map<Long, Long> views = statsClient.fetchAccessStatistics(STATISTICS_START, end, uris, true).stream()
+                .filter(stats -> stats.getUri().startsWith(EVENT_URI_PREFIX))
+                .collect(Collectors.toMap(
+                        stats -> Long.valueOf(stats.getUri().substring(EVENT_URI_PREFIX.length())),
+                        ViewStats::getHits,
+                        Math::max));
+        events.forEach(event -> trendingEventTracker.recordViews(event, views.get(event.getId())));
+        if (views.isEmpty()) {
+            return 0;
+        }
+
+        Long[] ids = views.keySet().toArray(new Long[0]);
+        Long[] hits = views.values().toArray(new Long[0]);
+        Integer count = transactionTemplate.execute(status -> eventRepository.updateViews(ids, hits));
+        return count != null ? count : 0;
+    }
+}
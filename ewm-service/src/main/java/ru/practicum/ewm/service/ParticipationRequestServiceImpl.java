@@ -1,8 +1,11 @@
 package ru.practicum.ewm.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.ewm.dto.ParticipationRequestDto;
 import ru.practicum.ewm.exception.ConflictException;
 import ru.practicum.ewm.exception.ForbiddenException;
@@ -27,13 +30,27 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final ParticipationRequestMapper requestMapper;
+    private final EventDetailCache eventDetailCache;
+    private final EventAdmissionLocks admissionLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final TrendingEventTracker trendingEventTracker;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ParticipationRequestDto createRequest(Long userId, Long eventId) {
+        try {
+            return admissionLocks.withEventLock(eventId,
+                    () -> transactionTemplate.execute(status -> admitRequest(userId, eventId)));
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Participation request already exists for this event");
+        }
+    }
+
+    private ParticipationRequestDto admitRequest(Long userId, Long eventId) {
         User requester = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User not found"));
 
-        Event event = eventRepository.findById(eventId)
+        Event event = eventRepository.findByIdForUpdate(eventId)
                 .orElseThrow(() -> new NotFoundException("Event not found"));
 
         if (event.getInitiator().getId().equals(userId)) {
@@ -49,12 +66,9 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
             throw new ConflictException("Participation request already exists for this event");
         }
 
-        if (event.getParticipantLimit() != null && event.getParticipantLimit() > 0) {
-            Integer confirmedCount = requestRepository.countByEventIdAndStatus(
-                    eventId, ParticipationRequest.Status.CONFIRMED);
-            if (confirmedCount >= event.getParticipantLimit()) {
-                throw new ConflictException("Event participant limit reached");
-            }
+        if (event.getParticipantLimit() != null && event.getParticipantLimit() > 0
+                && event.getConfirmedRequests() >= event.getParticipantLimit()) {
+            throw new ConflictException("Event participant limit reached");
         }
 
         ParticipationRequest.Status initialStatus;
@@ -67,6 +81,13 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
             initialStatus = ParticipationRequest.Status.PENDING;
         }
 
+        if (ParticipationRequest.Status.CONFIRMED.equals(initialStatus)) {
+            if (eventRepository.incrementConfirmedRequests(eventId, 1) == 0) {
+                throw new ConflictException("Event participant limit reached");
+            }
+            eventDetailCache.evictAfterCommit(eventId);
+        }
+
         ParticipationRequest request = ParticipationRequest.builder()
                 .created(LocalDateTime.now())
                 .event(event)
@@ -74,7 +95,8 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
                 .status(initialStatus)
                 .build();
 
-        ParticipationRequest saved = requestRepository.save(request);
+        ParticipationRequest saved = requestRepository.saveAndFlush(request);
+        trendingEventTracker.recordRequestAfterCommit(eventId);
         return requestMapper.toDto(saved);
     }
 
@@ -93,6 +115,10 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
         if (!request.getRequester().getId().equals(userId)) {
             throw new ForbiddenException("Cannot cancel another user's participation request");
         }
+        if (ParticipationRequest.Status.CONFIRMED.equals(request.getStatus())) {
+            eventRepository.decrementConfirmedRequests(request.getEvent().getId());
+            eventDetailCache.evictAfterCommit(request.getEvent().getId());
+        }
         request.setStatus(ParticipationRequest.Status.CANCELED);
         ParticipationRequest updated = requestRepository.save(request);
         return requestMapper.toDto(updated);
@@ -0,0 +1,231 @@
+package ru.practicum.ewm.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.ewm.dto.EventShortDto;
+import ru.practicum.ewm.mapper.EventMapper;
+import ru.practicum.ewm.repository.EventRepository;
+import ru.practicum.ewm.repository.PublishedEventStatsView;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class TrendingEventTracker {
+
+    private static final double MAX_LANDMARK_EXPONENT = 50;
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final double decayRatePerMs;
+    private final double requestWeight;
+    private final int topK;
+    private final int batchSize;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock landmarkLock = new ReentrantReadWriteLock();
+    private long landmarkMs = System.currentTimeMillis();
+    private volatile Ranking ranking = new Ranking(List.of(), Map.of());
+
+    public TrendingEventTracker(EventRepository eventRepository,
+                                EventMapper eventMapper,
+                                @Value("${ewm.trending.half-life-hours:6}") double halfLifeHours,
+                                @Value("${ewm.trending.request-weight:5}") double requestWeight,
+                                @Value("${ewm.trending.top-k:100}") int topK,
+                                @Value("${ewm.views.refresh-batch-size:500}") int batchSize) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.decayRatePerMs = Math.log(2) / (halfLifeHours * Duration.ofHours(1).toMillis());
+        this.requestWeight = requestWeight;
+        this.topK = topK;
+        this.batchSize = batchSize;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public List<EventShortDto> getTrending(Long categoryId, int limit) {
+        Ranking current = ranking;
+        List<EventShortDto> events = categoryId == null ? current.overall()
+                : current.byCategory().getOrDefault(categoryId, List.of());
+        return new ArrayList<>(events.subList(0, Math.min(limit, events.size())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long now = System.currentTimeMillis();
+        entries.clear();
+        long afterId = 0;
+        while (true) {
+            List<PublishedEventStatsView> events = eventRepository.findPublishedEventStatsAfter(afterId,
+                    PageRequest.of(0, batchSize));
+            if (events.isEmpty()) {
+                break;
+            }
+            for (PublishedEventStatsView event : events) {
+                Entry entry = register(event);
+                entry.lastViews = event.getViews();
+                long publishedAt = event.getPublishedOn() == null ? now
+                        : Math.min(now, event.getPublishedOn().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                add(entry, event.getViews() + requestWeight * event.getConfirmedRequests(), publishedAt);
+            }
+            afterId = events.get(events.size() - 1).getId();
+        }
+        log.info("Trending scores rebuilt for {} published events", entries.size());
+        rank();
+    }
+
+    public void recordViews(PublishedEventStatsView event, Long totalViews) {
+        Entry entry = register(event);
+        if (totalViews == null) {
+            return;
+        }
+        long delta = totalViews - entry.lastViews;
+        entry.lastViews = Math.max(entry.lastViews, totalViews);
+        if (delta > 0) {
+            add(entry, delta, System.currentTimeMillis());
+        }
+    }
+
+    public void retainOnly(Set<Long> publishedEventIds) {
+        entries.keySet().retainAll(publishedEventIds);
+    }
+
+    public void recordRequestAfterCommit(Long eventId) {
+        Runnable action = () -> {
+            Entry entry = entries.get(eventId);
+            if (entry != null) {
+                add(entry, requestWeight, System.currentTimeMillis());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Scheduled(initialDelayString = "${ewm.trending.rank-interval-ms:10000}",
+            fixedDelayString = "${ewm.trending.rank-interval-ms:10000}")
+    public void rank() {
+        rebaseLandmarkIfNeeded();
+        LocalDateTime now = LocalDateTime.now();
+        Comparator<Scored> byScore = Comparator.comparingDouble(Scored::score);
+        PriorityQueue<Scored> overall = new PriorityQueue<>(byScore);
+        Map<Long, PriorityQueue<Scored>> byCategory = new HashMap<>();
+        for (Map.Entry<Long, Entry> mapEntry : entries.entrySet()) {
+            Entry entry = mapEntry.getValue();
+            if (entry.eventDate == null || !entry.eventDate.isAfter(now)) {
+                continue;
+            }
+            Scored scored = new Scored(mapEntry.getKey(), entry.score.sum());
+            offer(overall, scored);
+            offer(byCategory.computeIfAbsent(entry.categoryId, id -> new PriorityQueue<>(byScore)), scored);
+        }
+
+        Set<Long> ids = new HashSet<>();
+        overall.forEach(scored -> ids.add(scored.eventId()));
+        byCategory.values().forEach(queue -> queue.forEach(scored -> ids.add(scored.eventId())));
+        Map<Long, EventShortDto> events = ids.isEmpty() ? Map.of() : eventRepository.findShortByIdIn(ids).stream()
+                .map(eventMapper::toShortDto)
+                .collect(Collectors.toMap(EventShortDto::getId, Function.identity()));
+
+        Map<Long, List<EventShortDto>> categoryRankings = new HashMap<>();
+        byCategory.forEach((categoryId, queue) -> categoryRankings.put(categoryId, toRanking(queue, events)));
+        ranking = new Ranking(toRanking(overall, events), categoryRankings);
+    }
+
+    private Entry register(PublishedEventStatsView event) {
+        Entry entry = entries.computeIfAbsent(event.getId(), id -> new Entry());
+        entry.categoryId = event.getCategoryId();
+        entry.eventDate = event.getEventDate();
+        return entry;
+    }
+
+    private void add(Entry entry, double weight, long occurredAtMs) {
+        landmarkLock.readLock().lock();
+        try {
+            entry.score.add(weight * Math.exp(decayRatePerMs * (occurredAtMs - landmarkMs)));
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+
+    private void rebaseLandmarkIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (decayRatePerMs * (now - landmarkMs) < MAX_LANDMARK_EXPONENT) {
+            return;
+        }
+        landmarkLock.writeLock().lock();
+        try {
+            double factor = Math.exp(-decayRatePerMs * (now - landmarkMs));
+            for (Entry entry : entries.values()) {
+                double rescaled = entry.score.sumThenReset() * factor;
+                entry.score.add(rescaled);
+            }
+            landmarkMs = now;
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+    }
+
+    private void offer(PriorityQueue<Scored> queue, Scored scored) {
+        if (queue.size() < topK) {
+            queue.add(scored);
+        } else if (queue.peek().score() < scored.score()) {
+            queue.poll();
+            queue.add(scored);
+        }
+    }
+
+    private List<EventShortDto> toRanking(Collection<Scored> queue, Map<Long, EventShortDto> events) {
+        return queue.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed())
+                .map(scored -> events.get(scored.eventId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static class Entry {
+        private final DoubleAdder score = new DoubleAdder();
+        private volatile Long categoryId;
+        private volatile LocalDateTime eventDate;
+        private volatile long lastViews;
+    }
+
+    private record Scored(Long eventId, double score) {
+    }
+
+    private record Ranking(List<EventShortDto> overall, Map<Long, List<EventShortDto>> byCategory) {
+    }
+}
@@ -8,6 +8,8 @@ import java.util.List;
 public interface UserService {
     UserDto addUser(NewUserRequest request);
 
+    int addUsers(List<NewUserRequest> requests);
+
     List<UserDto> getUsers(List<Long> ids, int from, int size);
 
     void deleteUser(Long id);
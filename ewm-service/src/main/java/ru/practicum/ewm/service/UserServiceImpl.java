@@ -12,7 +12,9 @@ import ru.practicum.ewm.mapper.UserMapper;
 import ru.practicum.ewm.model.User;
 import ru.practicum.ewm.repository.UserRepository;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,10 +29,40 @@ public class UserServiceImpl implements UserService {
         if (userRepository.existsByEmail(dto.getEmail())) {
             throw new ConflictException("Email должен быть уникальный");
         }
-        int atIndex = dto.getEmail().indexOf('@');
+        validateEmail(dto.getEmail());
 
-        String localPart = dto.getEmail().substring(0, atIndex);
-        String domainPart = dto.getEmail().substring(atIndex + 1);
+        User user = userMapper.fromNewUserRequest(dto);
+        User saved = userRepository.save(user);
+        return userMapper.toDto(saved);
+    }
+
+    @Override
+    public int addUsers(List<NewUserRequest> requests) {
+        Set<String> emails = new HashSet<>();
+        for (NewUserRequest request : requests) {
+            if (!emails.add(request.getEmail())) {
+                throw new ConflictException("Email должен быть уникальный: " + request.getEmail());
+            }
+            validateEmail(request.getEmail());
+        }
+        List<String> existing = userRepository.findExistingEmails(emails);
+        if (!existing.isEmpty()) {
+            throw new ConflictException("Email должен быть уникальный: " + existing.get(0));
+        }
+
+        List<User> users = requests.stream()
+                .map(userMapper::fromNewUserRequest)
+                .collect(Collectors.toList());
+        userRepository.saveAll(users);
+        userRepository.flush();
+        return users.size();
+    }
+
+    private void validateEmail(String email) {
+        int atIndex = email.indexOf('@');
+
+        String localPart = email.substring(0, atIndex);
+        String domainPart = email.substring(atIndex + 1);
 
         if (localPart.length() > 64) {
             throw new ConditionsNotMetException("Local part email не должна превышать 64 символа");
@@ -42,10 +74,6 @@ public class UserServiceImpl implements UserService {
                 throw new ConditionsNotMetException("Domain label не должен превышать 63 символа");
             }
         }
-
-        User user = userMapper.fromNewUserRequest(dto);
-        User saved = userRepository.save(user);
-        return userMapper.toDto(saved);
     }
 
     @Override
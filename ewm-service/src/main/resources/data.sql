@@ -1,37 +1,37 @@
-INSERT INTO categories (name) VALUES
-('Концерты'),
-('Выставки'),
-('Театр'),
-('Кино'),
-('Спорт'),
-('Образование'),
-('Наука'),
-('Технологии'),
-('Искусство'),
-('Музыка')
-ON CONFLICT (name) DO NOTHING;
+INSERT INTO categories (id, name) VALUES
+(1, 'Концерты'),
+(2, 'Выставки'),
+(3, 'Театр'),
+(4, 'Кино'),
+(5, 'Спорт'),
+(6, 'Образование'),
+(7, 'Наука'),
+(8, 'Технологии'),
+(9, 'Искусство'),
+(10, 'Музыка')
+ON CONFLICT DO NOTHING;
 
-INSERT INTO users (name, email) VALUES
-('Александр Иванов', 'alex.ivanov@example.com'),
-('Мария Петрова', 'maria.petrova@example.com'),
-('Дмитрий Сидоров', 'dmitry.sidorov@example.com'),
-('Екатерина Кузнецова', 'ekaterina.kuznetsova@example.com'),
-('Михаил Попов', 'mikhail.popov@example.com')
-ON CONFLICT (email) DO NOTHING;
+INSERT INTO users (id, name, email) VALUES
+(1, 'Александр Иванов', 'alex.ivanov@example.com'),
+(2, 'Мария Петрова', 'maria.petrova@example.com'),
+(3, 'Дмитрий Сидоров', 'dmitry.sidorov@example.com'),
+(4, 'Екатерина Кузнецова', 'ekaterina.kuznetsova@example.com'),
+(5, 'Михаил Попов', 'mikhail.popov@example.com')
+ON CONFLICT DO NOTHING;
 
-INSERT INTO events (annotation, category_id, created_on, description, event_date, initiator_id, lat, lon, paid, participant_limit, request_moderation, state, title) VALUES
-('Тестовый концерт рок-группы', 1, NOW(), 'Полное описание тестового концерта рок-группы с участием известных музыкантов', NOW() + INTERVAL '3 days', 1, 55.7558, 37.6173, true, 100, true, 'PENDING', 'Тестовый рок-концерт'),
-('Выставка современного искусства', 2, NOW(), 'Экспозиция современных художников и скульпторов', NOW() + INTERVAL '5 days', 2, 55.7517, 37.6178, false, 0, false, 'PUBLISHED', 'Выставка современного искусства'),
-('Спортивный марафон', 5, NOW(), 'Городской марафон на 10 км для всех желающих', NOW() + INTERVAL '7 days', 3, 55.7604, 37.6184, false, 50, true, 'PUBLISHED', 'Городской марафон'),
-('Научная конференция', 7, NOW(), 'Ежегодная конференция по инновациям в науке', NOW() + INTERVAL '10 days', 4, 55.7580, 37.6160, true, 200, true, 'CANCELED', 'Научная конференция 2024'),
-('Театральная премьера', 3, NOW(), 'Премьерный показ новой пьесы известного драматурга', NOW() + INTERVAL '2 days', 5, 55.7539, 37.6208, true, 150, true, 'PENDING', 'Театральная премьера')
+INSERT INTO events (id, annotation, category_id, created_on, description, event_date, initiator_id, lat, lon, paid, participant_limit, request_moderation, state, title) VALUES
+(1, 'Тестовый концерт рок-группы', 1, NOW(), 'Полное описание тестового концерта рок-группы с участием известных музыкантов', NOW() + INTERVAL '3 days', 1, 55.7558, 37.6173, true, 100, true, 'PENDING', 'Тестовый рок-концерт'),
+(2, 'Выставка современного искусства', 2, NOW(), 'Экспозиция современных художников и скульпторов', NOW() + INTERVAL '5 days', 2, 55.7517, 37.6178, false, 0, false, 'PUBLISHED', 'Выставка современного искусства'),
+(3, 'Спортивный марафон', 5, NOW(), 'Городской марафон на 10 км для всех желающих', NOW() + INTERVAL '7 days', 3, 55.7604, 37.6184, false, 50, true, 'PUBLISHED', 'Городской марафон'),
+(4, 'Научная конференция', 7, NOW(), 'Ежегодная конференция по инновациям в науке', NOW() + INTERVAL '10 days', 4, 55.7580, 37.6160, true, 200, true, 'CANCELED', 'Научная конференция 2024'),
+(5, 'Театральная премьера', 3, NOW(), 'Премьерный показ новой пьесы известного драматурга', NOW() + INTERVAL '2 days', 5, 55.7539, 37.6208, true, 150, true, 'PENDING', 'Театральная премьера')
 ON CONFLICT DO NOTHING;
 
-INSERT INTO compilations (pinned, title) VALUES
-(true, 'Популярные события'),
-(false, 'Бесплатные мероприятия'),
-(true, 'Спортивные события'),
-(false, 'Культурные мероприятия')
+INSERT INTO compilations (id, pinned, title) VALUES
+(1, true, 'Популярные события'),
+(2, false, 'Бесплатные мероприятия'),
+(3, true, 'Спортивные события'),
+(4, false, 'Культурные мероприятия')
 ON CONFLICT DO NOTHING;
 
 INSERT INTO compilation_events (compilation_id, event_id) VALUES
@@ -45,11 +45,27 @@ INSERT INTO compilation_events (compilation_id, event_id) VALUES
 (4, 5)
 ON CONFLICT DO NOTHING;
 
-INSERT INTO participation_requests (created, event_id, requester_id, status) VALUES
-(NOW(), 2, 1, 'CONFIRMED'),
-(NOW(), 2, 3, 'PENDING'),
-(NOW(), 3, 2, 'CONFIRMED'),
-(NOW(), 3, 4, 'CONFIRMED'),
-(NOW(), 3, 5, 'REJECTED'),
-(NOW() - INTERVAL '1 hour', 2, 4, 'CANCELED')
-ON CONFLICT DO NOTHING;
\ No newline at end of file
+INSERT INTO participation_requests (id, created, event_id, requester_id, status) VALUES
+(1, NOW(), 2, 1, 'CONFIRMED'),
+(2, NOW(), 2, 3, 'PENDING'),
+(3, NOW(), 3, 2, 'CONFIRMED'),
+(4, NOW(), 3, 4, 'CONFIRMED'),
+(5, NOW(), 3, 5, 'REJECTED'),
+(6, NOW() - INTERVAL '1 hour', 2, 4, 'CANCELED')
+ON CONFLICT DO NOTHING;
+
+UPDATE events e SET confirmed_requests = seeded.confirmed
+FROM (
+    SELECT ev.id, COUNT(pr.id) AS confirmed
+    FROM events ev
+    LEFT JOIN participation_requests pr ON pr.event_id = ev.id AND pr.status = 'CONFIRMED'
+    WHERE ev.id BETWEEN 1 AND 5
+    GROUP BY ev.id
+) seeded
+WHERE e.id = seeded.id AND e.confirmed_requests IS DISTINCT FROM seeded.confirmed;
+
+SELECT setval('categories_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM categories), (SELECT last_value FROM categories_id_seq)));
+SELECT setval('users_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM users), (SELECT last_value FROM users_id_seq)));
+SELECT setval('events_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM events), (SELECT last_value FROM events_id_seq)));
+SELECT setval('compilations_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM compilations), (SELECT last_value FROM compilations_id_seq)));
+SELECT setval('participation_requests_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM participation_requests), (SELECT last_value FROM participation_requests_id_seq)));
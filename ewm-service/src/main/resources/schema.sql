@@ -1,8 +1,13 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 CREATE TABLE IF NOT EXISTS categories (
     id BIGSERIAL PRIMARY KEY,
-    name VARCHAR(50) NOT NULL UNIQUE
+    name VARCHAR(50) NOT NULL UNIQUE,
+    updated_on TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
 );
 
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS updated_on TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW();
+
 CREATE TABLE IF NOT EXISTS users (
     id BIGSERIAL PRIMARY KEY,
     name VARCHAR(250) NOT NULL,
@@ -24,15 +29,25 @@ CREATE TABLE IF NOT EXISTS events (
     published_on TIMESTAMP WITHOUT TIME ZONE,
     request_moderation BOOLEAN DEFAULT true,
     state VARCHAR(20) NOT NULL,
-    title VARCHAR(120) NOT NULL
+    title VARCHAR(120) NOT NULL,
+    confirmed_requests INTEGER NOT NULL DEFAULT 0,
+    views BIGINT NOT NULL DEFAULT 0,
+    updated_on TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
 );
 
+ALTER TABLE events ADD COLUMN IF NOT EXISTS confirmed_requests INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS views BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS updated_on TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW();
+
 CREATE TABLE IF NOT EXISTS compilations (
     id BIGSERIAL PRIMARY KEY,
     pinned BOOLEAN NOT NULL DEFAULT false,
-    title VARCHAR(50) NOT NULL
+    title VARCHAR(50) NOT NULL,
+    updated_on TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
 );
 
+ALTER TABLE compilations ADD COLUMN IF NOT EXISTS updated_on TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW();
+
 CREATE TABLE IF NOT EXISTS compilation_events (
     compilation_id BIGINT NOT NULL REFERENCES compilations(id) ON DELETE CASCADE,
     event_id BIGINT NOT NULL REFERENCES events(id) ON DELETE CASCADE,
@@ -47,11 +62,34 @@ CREATE TABLE IF NOT EXISTS participation_requests (
     status VARCHAR(20) NOT NULL
 );
 
+ALTER SEQUENCE IF EXISTS categories_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS events_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS participation_requests_id_seq INCREMENT BY 50;
+
+CREATE OR REPLACE FUNCTION touch_updated_on() RETURNS trigger AS
+'BEGIN NEW.updated_on := LOCALTIMESTAMP; RETURN NEW; END' LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER trg_categories_updated_on BEFORE UPDATE ON categories
+FOR EACH ROW EXECUTE FUNCTION touch_updated_on();
+CREATE OR REPLACE TRIGGER trg_events_updated_on BEFORE UPDATE ON events
+FOR EACH ROW EXECUTE FUNCTION touch_updated_on();
+CREATE OR REPLACE TRIGGER trg_compilations_updated_on BEFORE UPDATE ON compilations
+FOR EACH ROW EXECUTE FUNCTION touch_updated_on();
+
 CREATE INDEX IF NOT EXISTS idx_events_category ON events(category_id);
-CREATE INDEX IF NOT EXISTS idx_events_initiator ON events(initiator_id);
-CREATE INDEX IF NOT EXISTS idx_events_state ON events(state);
+DROP INDEX IF EXISTS idx_events_initiator;
+CREATE INDEX IF NOT EXISTS idx_events_initiator_event_date ON events(initiator_id, event_date DESC, id DESC);
+DROP INDEX IF EXISTS idx_events_state;
+CREATE INDEX IF NOT EXISTS idx_events_state_event_date_category ON events(state, event_date, category_id);
+CREATE INDEX IF NOT EXISTS idx_events_state_category_event_date ON events(state, category_id, event_date);
+CREATE INDEX IF NOT EXISTS idx_events_state_views ON events(state, views DESC, id);
+DROP INDEX IF EXISTS idx_events_published_location;
+CREATE INDEX IF NOT EXISTS idx_events_published_location_gist ON events USING gist (point(lon, lat)) WHERE state = 'PUBLISHED';
 CREATE INDEX IF NOT EXISTS idx_events_event_date ON events(event_date);
 CREATE INDEX IF NOT EXISTS idx_events_published ON events(published_on);
+CREATE INDEX IF NOT EXISTS idx_events_annotation_trgm ON events USING gin (lower(annotation) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_events_description_trgm ON events USING gin (lower(description) gin_trgm_ops);
 
 CREATE INDEX IF NOT EXISTS idx_compilations_pinned ON compilations(pinned);
 
@@ -59,6 +97,7 @@ CREATE INDEX IF NOT EXISTS idx_participation_requests_event ON participation_req
 CREATE INDEX IF NOT EXISTS idx_participation_requests_requester ON participation_requests(requester_id);
 CREATE INDEX IF NOT EXISTS idx_participation_requests_status ON participation_requests(status);
 CREATE INDEX IF NOT EXISTS idx_participation_requests_created ON participation_requests(created);
+CREATE INDEX IF NOT EXISTS idx_participation_requests_event_pending ON participation_requests(event_id) WHERE status = 'PENDING';
 
 CREATE INDEX IF NOT EXISTS idx_users_email ON users(email);
 
@@ -0,0 +1,51 @@
+package ru.practicum.ewm.dto;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.ewm.exception.ConditionsNotMetException;
+import ru.practicum.ewm.model.Event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventCursorTest {
+
+    @Test
+    void filtersFingerprintDependsOnlyOnCanonicalValues() {
+        CRC32 expected = new CRC32();
+        expected.update("admin|[PUBLISHED,CANCELED,]|[3,]|null|".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(EventCursor.filters("admin", List.of(Event.EventState.PUBLISHED, Event.EventState.CANCELED),
+                List.of(3L), null)).isEqualTo(expected.getValue());
+    }
+
+    @Test
+    void cursorRoundTripsSortKeyAndId() {
+        LocalDateTime eventDate = LocalDateTime.of(2030, 5, 1, 18, 30);
+        long filters = EventCursor.filters("user", 7L);
+        String cursor = EventCursor.next(List.of(eventDate), 1, EventCursor.Order.EVENT_DATE_DESC, filters,
+                date -> date, date -> 42L);
+
+        EventCursor decoded = EventCursor.decode(cursor, EventCursor.Order.EVENT_DATE_DESC, filters);
+
+        assertThat(decoded.getEventDate()).isEqualTo(eventDate);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void cursorFromAnotherSortOrFilterSetIsRejected() {
+        long filters = EventCursor.filters("public", "music");
+        String cursor = EventCursor.next(List.of(10L), 1, EventCursor.Order.VIEWS, filters, views -> views,
+                views -> 1L);
+
+        assertThatThrownBy(() -> EventCursor.decode(cursor, EventCursor.Order.EVENT_DATE, filters))
+                .isInstanceOf(ConditionsNotMetException.class);
+        assertThatThrownBy(() -> EventCursor.decode(cursor, EventCursor.Order.VIEWS,
+                EventCursor.filters("public", "art")))
+                .isInstanceOf(ConditionsNotMetException.class);
+    }
+}
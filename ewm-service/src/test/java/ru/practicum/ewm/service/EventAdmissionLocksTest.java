@@ -0,0 +1,42 @@
+package ru.practicum.ewm.service;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.ewm.exception.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventAdmissionLocksTest {
+
+    @Test
+    void lockTimeoutIsReportedAsOverloadWithRetryAfter() throws Exception {
+        EventAdmissionLocks locks = new EventAdmissionLocks(1, 50);
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> locks.withEventLock(1L, () -> {
+            held.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        try {
+            assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> locks.withEventLock(1L, () -> "admitted"))
+                    .isInstanceOfSatisfying(ServiceUnavailableException.class,
+                            e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+        } finally {
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(locks.withEventLock(1L, () -> "admitted")).isEqualTo("admitted");
+    }
+}
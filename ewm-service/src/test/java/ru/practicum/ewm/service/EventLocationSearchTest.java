@@ -0,0 +1,72 @@
+package ru.practicum.ewm.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.ewm.dto.EventShortView;
+import ru.practicum.ewm.model.Category;
+import ru.practicum.ewm.model.Event;
+import ru.practicum.ewm.model.Location;
+import ru.practicum.ewm.model.User;
+import ru.practicum.ewm.repository.EventRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class EventLocationSearchTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EventRepository eventRepository;
+
+    private Category category;
+    private User initiator;
+
+    @BeforeEach
+    void setUp() {
+        category = entityManager.persist(new Category(null, "Islands", null));
+        initiator = entityManager.persist(new User(null, "Ann", "ann@example.com"));
+    }
+
+    @Test
+    void radiusSearchWrapsAcrossTheAntimeridian() {
+        Event east = persistEvent("East of the date line", 179.95f);
+        Event west = persistEvent("West of the date line", -179.95f);
+        persistEvent("Far away", 0f);
+
+        assertThat(search(-179.9)).containsExactlyInAnyOrder(east.getId(), west.getId());
+        assertThat(search(179.9)).containsExactlyInAnyOrder(east.getId(), west.getId());
+    }
+
+    private List<Long> search(double lon) {
+        return eventRepository.findPublicEventsWithFilters(null, null, null, LocalDateTime.now(), null, null,
+                        false, 0.0, lon, 50.0, PageRequest.of(0, 10)).stream()
+                .map(EventShortView::getId)
+                .toList();
+    }
+
+    private Event persistEvent(String title, float lon) {
+        return entityManager.persistAndFlush(Event.builder()
+                .annotation(title)
+                .description(title)
+                .title(title)
+                .category(category)
+                .initiator(initiator)
+                .location(new Location(0f, lon))
+                .createdOn(LocalDateTime.now())
+                .eventDate(LocalDateTime.now().plusDays(1))
+                .publishedOn(LocalDateTime.now())
+                .paid(false)
+                .participantLimit(0)
+                .requestModeration(true)
+                .state(Event.EventState.PUBLISHED)
+                .build());
+    }
+}
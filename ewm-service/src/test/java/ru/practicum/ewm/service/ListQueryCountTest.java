@@ -0,0 +1,137 @@
+package ru.practicum.ewm.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import ru.practicum.ewm.mapper.CompilationMapperImpl;
+import ru.practicum.ewm.mapper.EventMapperImpl;
+import ru.practicum.ewm.mapper.ParticipationRequestMapperImpl;
+import ru.practicum.ewm.model.Category;
+import ru.practicum.ewm.model.Compilation;
+import ru.practicum.ewm.model.Event;
+import ru.practicum.ewm.model.Location;
+import ru.practicum.ewm.model.User;
+import ru.practicum.ewm.stats.client.StatisticsClient;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({EventServiceImpl.class, CompilationServiceImpl.class, EventMapperImpl.class, CompilationMapperImpl.class,
+        ParticipationRequestMapperImpl.class})
+class ListQueryCountTest {
+
+    private static final int EVENTS_PER_USER = 3;
+
+    @MockBean
+    private StatisticsClient statisticsClient;
+    @MockBean
+    private CategoryCache categoryCache;
+    @MockBean
+    private EventDetailCache eventDetailCache;
+    @MockBean
+    private TrendingEventTracker trendingEventTracker;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private CompilationService compilationService;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        List<Category> categories = List.of(
+                entityManager.persist(new Category(null, "Concerts", null)),
+                entityManager.persist(new Category(null, "Theatre", null)));
+        List<User> users = List.of(
+                entityManager.persist(new User(null, "Ann", "ann@example.com")),
+                entityManager.persist(new User(null, "Bob", "bob@example.com")));
+        userId = users.get(0).getId();
+
+        Set<Event> events = new HashSet<>();
+        for (User user : users) {
+            for (int i = 0; i < EVENTS_PER_USER; i++) {
+                events.add(entityManager.persist(Event.builder()
+                        .annotation("Annotation of a published event " + i)
+                        .description("Description of a published event " + i)
+                        .title("Event " + i)
+                        .category(categories.get(i % categories.size()))
+                        .initiator(user)
+                        .location(new Location(55.75f, 37.62f))
+                        .createdOn(LocalDateTime.now())
+                        .eventDate(LocalDateTime.now().plusDays(i + 1))
+                        .publishedOn(LocalDateTime.now())
+                        .paid(false)
+                        .participantLimit(0)
+                        .requestModeration(true)
+                        .state(Event.EventState.PUBLISHED)
+                        .views((long) i)
+                        .build()));
+            }
+        }
+        for (boolean pinned : new boolean[]{true, false}) {
+            Compilation compilation = new Compilation();
+            compilation.setTitle(pinned ? "Pinned" : "Other");
+            compilation.setPinned(pinned);
+            compilation.setEvents(new HashSet<>(events));
+            entityManager.persist(compilation);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void publicEventsAreLoadedInOneStatement() {
+        assertThat(eventService.getPublicEvents(null, null, null, null, null, false, null, null, null,
+                null, 0, 10, null).getItems()).hasSize(2 * EVENTS_PER_USER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publicEventsByViewsAreLoadedInOneStatement() {
+        assertThat(eventService.getPublicEvents(null, null, null, null, null, false, 55.75, 37.62, 5.0,
+                "VIEWS", 0, 10, null).getItems()).hasSize(2 * EVENTS_PER_USER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void adminEventsAreLoadedInOneStatement() {
+        assertThat(eventService.findEventsAdmin(null, List.of("PUBLISHED"), null, null, null, 0, 10, null)
+                .getItems()).hasSize(2 * EVENTS_PER_USER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userEventsAreLoadedInOneStatement() {
+        assertThat(eventService.getUserEvents(userId, 0, 10, null).getItems()).hasSize(EVENTS_PER_USER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void compilationsAreLoadedInThreeStatements() {
+        assertThat(compilationService.getCompilations(0, 10, null))
+                .hasSize(2)
+                .allSatisfy(compilation -> assertThat(compilation.getEvents()).hasSize(2 * EVENTS_PER_USER));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
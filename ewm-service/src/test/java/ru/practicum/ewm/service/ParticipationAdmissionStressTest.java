@@ -0,0 +1,134 @@
+package ru.practicum.ewm.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.ewm.exception.ConflictException;
+import ru.practicum.ewm.mapper.ParticipationRequestMapperImpl;
+import ru.practicum.ewm.model.Category;
+import ru.practicum.ewm.model.Event;
+import ru.practicum.ewm.model.Location;
+import ru.practicum.ewm.model.ParticipationRequest;
+import ru.practicum.ewm.model.User;
+import ru.practicum.ewm.repository.CategoryRepository;
+import ru.practicum.ewm.repository.EventRepository;
+import ru.practicum.ewm.repository.ParticipationRequestRepository;
+import ru.practicum.ewm.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "ewm.admission.lock-timeout-ms=60000")
+@Import({ParticipationRequestServiceImpl.class, EventAdmissionLocks.class, ParticipationRequestMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ParticipationAdmissionStressTest {
+
+    private static final int REQUESTERS = 200;
+    private static final int PARTICIPANT_LIMIT = 25;
+
+    @MockBean
+    private EventDetailCache eventDetailCache;
+    @MockBean
+    private TrendingEventTracker trendingEventTracker;
+
+    @Autowired
+    private ParticipationRequestService participationRequestService;
+    @Autowired
+    private ParticipationRequestRepository requestRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        requestRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentRequestsConfirmExactlyTheParticipantLimit() throws Exception {
+        Long eventId = transactionTemplate.execute(status -> createEvent().getId());
+        List<Long> requesterIds = transactionTemplate.execute(status -> {
+            List<User> requesters = new ArrayList<>();
+            for (int i = 0; i < REQUESTERS; i++) {
+                requesters.add(new User(null, "Requester " + i, "requester" + i + "@example.com"));
+            }
+            return userRepository.saveAll(requesters).stream().map(User::getId).toList();
+        });
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long requesterId : requesterIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        participationRequestService.createRequest(requesterId, eventId);
+                        admitted.incrementAndGet();
+                    } catch (ConflictException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(admitted.get()).isEqualTo(PARTICIPANT_LIMIT);
+        assertThat(rejected.get()).isEqualTo(REQUESTERS - PARTICIPANT_LIMIT);
+        assertThat(requestRepository.findAll())
+                .hasSize(PARTICIPANT_LIMIT)
+                .allMatch(request -> request.getStatus() == ParticipationRequest.Status.CONFIRMED);
+        assertThat(eventRepository.findConfirmedRequestsById(eventId)).isEqualTo(PARTICIPANT_LIMIT);
+    }
+
+    private Event createEvent() {
+        Category category = categoryRepository.save(new Category(null, "Flash sale", null));
+        User initiator = userRepository.save(new User(null, "Initiator", "initiator@example.com"));
+        return eventRepository.save(Event.builder()
+                .annotation("Hot event with a small participant limit")
+                .description("Hot event with a small participant limit")
+                .title("Hot event")
+                .category(category)
+                .initiator(initiator)
+                .location(new Location(55.75f, 37.62f))
+                .createdOn(LocalDateTime.now())
+                .eventDate(LocalDateTime.now().plusDays(1))
+                .publishedOn(LocalDateTime.now())
+                .paid(false)
+                .participantLimit(PARTICIPANT_LIMIT)
+                .requestModeration(false)
+                .state(Event.EventState.PUBLISHED)
+                .build());
+    }
+}
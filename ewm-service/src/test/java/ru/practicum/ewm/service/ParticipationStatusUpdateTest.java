@@ -0,0 +1,166 @@
+package ru.practicum.ewm.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.assertj.core.groups.Tuple;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.ewm.dto.EventRequestStatusUpdateRequest;
+import ru.practicum.ewm.dto.EventRequestStatusUpdateResult;
+import ru.practicum.ewm.dto.ParticipationRequestDto;
+import ru.practicum.ewm.exception.ConflictException;
+import ru.practicum.ewm.mapper.CompilationMapperImpl;
+import ru.practicum.ewm.mapper.EventMapperImpl;
+import ru.practicum.ewm.mapper.ParticipationRequestMapperImpl;
+import ru.practicum.ewm.model.Category;
+import ru.practicum.ewm.model.Event;
+import ru.practicum.ewm.model.Location;
+import ru.practicum.ewm.model.ParticipationRequest;
+import ru.practicum.ewm.model.User;
+import ru.practicum.ewm.stats.client.StatisticsClient;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The status updates are native UPDATE ... RETURNING statements, so they run against PostgreSQL rather than H2.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({EventServiceImpl.class, EventMapperImpl.class, CompilationMapperImpl.class,
+        ParticipationRequestMapperImpl.class})
+class ParticipationStatusUpdateTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.1");
+
+    @MockBean
+    private StatisticsClient statisticsClient;
+    @MockBean
+    private CategoryCache categoryCache;
+    @MockBean
+    private EventDetailCache eventDetailCache;
+    @MockBean
+    private TrendingEventTracker trendingEventTracker;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EventService eventService;
+
+    private User initiator;
+    private Event event;
+    private List<ParticipationRequest> requests;
+
+    @BeforeEach
+    void setUp() {
+        Category category = entityManager.persist(new Category(null, "Concerts", null));
+        initiator = entityManager.persist(new User(null, "Initiator", "initiator@example.com"));
+        event = entityManager.persist(Event.builder()
+                .annotation("Event with a participant limit of two")
+                .description("Event with a participant limit of two")
+                .title("Limited event")
+                .category(category)
+                .initiator(initiator)
+                .location(new Location(55.75f, 37.62f))
+                .createdOn(LocalDateTime.now())
+                .eventDate(LocalDateTime.now().plusDays(1))
+                .publishedOn(LocalDateTime.now())
+                .paid(false)
+                .participantLimit(2)
+                .requestModeration(true)
+                .state(Event.EventState.PUBLISHED)
+                .build());
+        requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User requester = entityManager.persist(new User(null, "Requester " + i, "requester" + i + "@example.com"));
+            requests.add(entityManager.persist(ParticipationRequest.builder()
+                    .created(LocalDateTime.now())
+                    .event(event)
+                    .requester(requester)
+                    .status(ParticipationRequest.Status.PENDING)
+                    .build()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void confirmingUpToTheLimitRejectsTheRemainingPendingRequests() {
+        EventRequestStatusUpdateResult result = changeStatus(EventRequestStatusUpdateRequest.Status.CONFIRMED,
+                requests.get(0), requests.get(1));
+
+        assertThat(result.getConfirmedRequests())
+                .extracting(ParticipationRequestDto::getId, ParticipationRequestDto::getRequester,
+                        ParticipationRequestDto::getEvent, ParticipationRequestDto::getStatus)
+                .containsExactlyInAnyOrder(
+                        dtoOf(requests.get(0), "CONFIRMED"),
+                        dtoOf(requests.get(1), "CONFIRMED"));
+        assertThat(result.getConfirmedRequests()).allSatisfy(dto -> assertThat(dto.getCreated()).isNotNull());
+        assertThat(result.getRejectedRequests())
+                .extracting(ParticipationRequestDto::getId, ParticipationRequestDto::getRequester,
+                        ParticipationRequestDto::getEvent, ParticipationRequestDto::getStatus)
+                .containsExactly(dtoOf(requests.get(2), "REJECTED"));
+
+        entityManager.clear();
+        assertThat(entityManager.find(Event.class, event.getId()).getConfirmedRequests()).isEqualTo(2);
+        assertThat(statusOf(requests.get(2))).isEqualTo(ParticipationRequest.Status.REJECTED);
+    }
+
+    @Test
+    void rejectingReturnsTheRejectedRequests() {
+        EventRequestStatusUpdateResult result = changeStatus(EventRequestStatusUpdateRequest.Status.REJECTED,
+                requests.get(0));
+
+        assertThat(result.getConfirmedRequests()).isEmpty();
+        assertThat(result.getRejectedRequests())
+                .extracting(ParticipationRequestDto::getId, ParticipationRequestDto::getRequester,
+                        ParticipationRequestDto::getEvent, ParticipationRequestDto::getStatus)
+                .containsExactly(dtoOf(requests.get(0), "REJECTED"));
+
+        entityManager.clear();
+        assertThat(statusOf(requests.get(0))).isEqualTo(ParticipationRequest.Status.REJECTED);
+        assertThat(statusOf(requests.get(1))).isEqualTo(ParticipationRequest.Status.PENDING);
+    }
+
+    @Test
+    void changingANonPendingRequestIsAConflict() {
+        changeStatus(EventRequestStatusUpdateRequest.Status.REJECTED, requests.get(0));
+
+        assertThatThrownBy(() -> changeStatus(EventRequestStatusUpdateRequest.Status.REJECTED,
+                requests.get(0), requests.get(1)))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("Only pending requests of this event can change status");
+    }
+
+    private EventRequestStatusUpdateResult changeStatus(EventRequestStatusUpdateRequest.Status status,
+                                                        ParticipationRequest... targets) {
+        List<Long> ids = new ArrayList<>();
+        for (ParticipationRequest target : targets) {
+            ids.add(target.getId());
+        }
+        return eventService.changeParticipationRequestStatus(initiator.getId(), event.getId(),
+                new EventRequestStatusUpdateRequest(ids, status));
+    }
+
+    private ParticipationRequest.Status statusOf(ParticipationRequest request) {
+        return entityManager.find(ParticipationRequest.class, request.getId()).getStatus();
+    }
+
+    private static Tuple dtoOf(ParticipationRequest request, String status) {
+        return Tuple.tuple(request.getId(), request.getRequester().getId(),
+                request.getEvent().getId(), status);
+    }
+}
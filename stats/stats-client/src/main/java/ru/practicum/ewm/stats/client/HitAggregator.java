@@ -0,0 +1,47 @@
+package ru.practicum.ewm.stats.client;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class HitAggregator {
+
+    private final ConcurrentMap<HitKey, Integer> pendingHits = new ConcurrentHashMap<>();
+
+    public void add(EndpointHit hit) {
+        HitKey key = new HitKey(hit.getApp(), hit.getUri(), hit.getIp(),
+                hit.getTimestamp().truncatedTo(ChronoUnit.SECONDS));
+        int count = hit.getCount() != null ? hit.getCount() : 1;
+        pendingHits.merge(key, count, Integer::sum);
+    }
+
+    public boolean isEmpty() {
+        return pendingHits.isEmpty();
+    }
+
+    public List<EndpointHit> drain() {
+        List<EndpointHit> hits = new ArrayList<>();
+        for (HitKey key : pendingHits.keySet()) {
+            Integer count = pendingHits.remove(key);
+            if (count != null) {
+                hits.add(EndpointHit.builder()
+                        .app(key.app())
+                        .uri(key.uri())
+                        .ip(key.ip())
+                        .timestamp(key.timestamp())
+                        .count(count)
+                        .build());
+            }
+        }
+        return hits;
+    }
+
+    private record HitKey(String app, String uri, String ip, LocalDateTime timestamp) {
+    }
+}
@@ -0,0 +1,244 @@
+package ru.practicum.ewm.stats.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Slf4j
+@Component
+public class HitSpool {
+
+    private static final int READ_CHUNK_BYTES = 1024 * 1024;
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final Path spoolFile;
+    private final Path offsetFile;
+    private final long maxBytes;
+
+    private FileChannel channel;
+    private long readOffset;
+    // Bytes dropped from the front of the file by compaction or truncation since the spool was opened.
+    // Batches carry offsets relative to the original file start, so an acknowledgement stays valid
+    // even when the file was compacted while its batch was being sent.
+    private long discardedBytes;
+
+    public HitSpool(ObjectMapper objectMapper,
+                    @Value("${stats.client.spool.dir:${java.io.tmpdir}/ewm-stats-spool}") String spoolDir,
+                    @Value("${stats.client.spool.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.spoolFile = Path.of(spoolDir, "hits.spool");
+        this.offsetFile = Path.of(spoolDir, "hits.offset");
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(spoolFile.getParent());
+            this.channel = openChannel();
+            truncateTornTail();
+            this.readOffset = Math.min(loadReadOffset(), channel.size());
+            log.info("Hit spool opened at {}, {} bytes pending", spoolFile, channel.size() - readOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open hit spool at " + spoolFile, e);
+        }
+    }
+
+    public synchronized boolean append(EndpointHit hit) {
+        try {
+            byte[] record = toRecord(hit);
+            if (channel.size() + record.length > maxBytes) {
+                compact();
+            }
+            if (channel.size() + record.length > maxBytes) {
+                log.warn("Hit spool is full ({} bytes), access record dropped: {}", channel.size(), hit);
+                return false;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            long position = channel.size();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to spool access record {}: {}", hit, e.getMessage());
+            return false;
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        try {
+            return readOffset >= channel.size();
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    public synchronized Batch readBatch(int maxRecords) throws IOException {
+        long available = channel.size() - readOffset;
+        if (available <= 0) {
+            return new Batch(List.of(), discardedBytes + readOffset);
+        }
+
+        long chunkSize = Math.min(available, READ_CHUNK_BYTES);
+        byte[] bytes = read(readOffset, (int) chunkSize);
+        while (indexOfSeparator(bytes) < 0 && chunkSize < available) {
+            chunkSize = Math.min(available, Math.min(chunkSize * 2, Integer.MAX_VALUE - 8));
+            bytes = read(readOffset, (int) chunkSize);
+        }
+
+        int limit = bytes.length;
+        List<EndpointHit> hits = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < limit && hits.size() < maxRecords; i++) {
+            if (bytes[i] != LINE_SEPARATOR) {
+                continue;
+            }
+            if (i > lineStart) {
+                try {
+                    hits.add(objectMapper.readValue(bytes, lineStart, i - lineStart, EndpointHit.class));
+                } catch (IOException e) {
+                    log.warn("Skipping corrupted hit spool record at offset {}", readOffset + lineStart);
+                }
+            }
+            lineStart = i + 1;
+        }
+        return new Batch(hits, discardedBytes + readOffset + lineStart);
+    }
+
+    public synchronized void acknowledge(Batch batch) throws IOException {
+        readOffset = Math.max(readOffset, batch.getEndOffset() - discardedBytes);
+        if (readOffset >= channel.size()) {
+            channel.truncate(0);
+            discardedBytes += readOffset;
+            readOffset = 0;
+        } else if (readOffset > maxBytes / 2) {
+            compact();
+        }
+        storeReadOffset();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            storeReadOffset();
+            channel.force(true);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close hit spool: {}", e.getMessage());
+        }
+    }
+
+    private void compact() throws IOException {
+        if (readOffset == 0) {
+            return;
+        }
+        Path compacted = spoolFile.resolveSibling(spoolFile.getFileName() + ".compact");
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = readOffset;
+            long size = channel.size();
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            target.force(true);
+        }
+        long reclaimed = readOffset;
+        discardedBytes += reclaimed;
+        readOffset = 0;
+        storeReadOffset();
+        channel.close();
+        Files.move(compacted, spoolFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = openChannel();
+        log.debug("Hit spool compacted, {} bytes reclaimed", reclaimed);
+    }
+
+    private byte[] read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+        }
+        return buffer.position() == length ? buffer.array()
+                : Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static int indexOfSeparator(byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == LINE_SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // A crash in the middle of append leaves a record without its separator; drop it so the replayer
+    // does not wait behind it forever.
+    private void truncateTornTail() throws IOException {
+        long size = channel.size();
+        long end = size;
+        ByteBuffer single = ByteBuffer.allocate(1);
+        while (end > 0) {
+            single.clear();
+            channel.read(single, end - 1);
+            if (single.get(0) == LINE_SEPARATOR) {
+                break;
+            }
+            end--;
+        }
+        if (end < size) {
+            log.warn("Dropping {} bytes of a torn record at the end of the hit spool", size - end);
+            channel.truncate(end);
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        return FileChannel.open(spoolFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    private byte[] toRecord(EndpointHit hit) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(hit);
+        byte[] record = new byte[json.length + 1];
+        System.arraycopy(json, 0, record, 0, json.length);
+        record[json.length] = LINE_SEPARATOR;
+        return record;
+    }
+
+    private long loadReadOffset() throws IOException {
+        if (!Files.exists(offsetFile)) {
+            return 0;
+        }
+        String value = Files.readString(offsetFile, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    private void storeReadOffset() throws IOException {
+        Files.writeString(offsetFile, Long.toString(readOffset), StandardCharsets.UTF_8);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Batch {
+        private final List<EndpointHit> hits;
+        private final long endOffset;
+    }
+}
@@ -0,0 +1,67 @@
+package ru.practicum.ewm.stats.client;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HitSpoolReplayer {
+
+    private final HitSpool hitSpool;
+    private final StatisticsClient statisticsClient;
+
+    @Value("${stats.client.spool.batch-size:500}")
+    private int batchSize;
+
+    @Value("${stats.client.spool.replay-interval-ms:5000}")
+    private long replayIntervalMs;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stats-hit-spool-replayer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::replay, replayIntervalMs, replayIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+    }
+
+    void replay() {
+        try {
+            int replayed = 0;
+            while (!hitSpool.isEmpty()) {
+                HitSpool.Batch batch = hitSpool.readBatch(batchSize);
+                if (batch.getHits().isEmpty()) {
+                    hitSpool.acknowledge(batch);
+                    break;
+                }
+                if (!statisticsClient.sendAccessRecords(batch.getHits())) {
+                    break;
+                }
+                hitSpool.acknowledge(batch);
+                replayed += batch.getHits().size();
+            }
+            if (replayed > 0) {
+                log.info("Replayed {} spooled access records", replayed);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to replay spooled access records: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ru.practicum.ewm.stats.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class StatisticsCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public StatisticsCircuitBreaker(@Value("${stats.client.circuit.failure-threshold:5}") int failureThreshold,
+                                    @Value("${stats.client.circuit.open-duration-ms:30000}") long openDurationMs,
+                                    MeterRegistry meterRegistry) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = Duration.ofMillis(openDurationMs);
+        this.clock = Clock.systemUTC();
+
+        Gauge.builder("stats.client.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Stats client circuit breaker state: 0 - closed, 1 - open, 2 - half-open")
+                .register(meterRegistry);
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.millis() - openedAt < openDuration.toMillis()) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                log.info("Statistics circuit breaker is half-open, probing statistics service");
+                return true;
+            case HALF_OPEN:
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Statistics circuit breaker closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("Statistics circuit breaker opened after {} consecutive failures", consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = clock.millis();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -1,9 +1,12 @@
 package ru.practicum.ewm.stats.client;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -12,8 +15,16 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -21,48 +32,153 @@ import java.util.List;
 public class StatisticsClient {
 
     private final RestTemplate restTemplate;
+    private final StatisticsCircuitBreaker circuitBreaker;
+    private final ViewStatsFallbackCache fallbackCache;
+    private final HitSpool hitSpool;
+    private final HitAggregator hitAggregator;
 
     @Value("${stats.service.url:http://localhost:9090}")
     private String statisticsServiceUrl;
 
+    @Value("${stats.client.bulk-query.threshold:50}")
+    private int bulkQueryThreshold;
+
+    @Value("${stats.client.bulk-query.chunk-size:500}")
+    private int bulkQueryChunkSize;
+
+    @Value("${stats.client.aggregation.window-ms:1000}")
+    private long aggregationWindowMs;
+
+    private final ExecutorService bulkQueryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ScheduledExecutorService aggregationFlusher;
+
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public void sendAccessRecord(EndpointHit hit) {
+        if (aggregationWindowMs > 0) {
+            hitAggregator.add(hit);
+            return;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            log.debug("Statistics circuit breaker is open, access record spooled: {}", hit);
+            hitSpool.append(hit);
+            return;
+        }
         try {
             String url = statisticsServiceUrl + "/hit";
             log.debug("Sending access record to statistics service: {}", hit);
             restTemplate.postForEntity(url, hit, Void.class);
+            circuitBreaker.onSuccess();
             log.info("Access record sent successfully for app: {}", hit.getApp());
         } catch (Exception e) {
-            log.warn("Failed to send access record: {}", e.getMessage());
+            circuitBreaker.onFailure();
+            log.warn("Failed to send access record, record spooled: {}", e.getMessage());
+            hitSpool.append(hit);
+        }
+    }
+
+    public void flushPendingHits() {
+        if (hitAggregator.isEmpty()) {
+            return;
+        }
+        List<EndpointHit> hits = hitAggregator.drain();
+        if (!hits.isEmpty() && !sendAccessRecords(hits)) {
+            log.debug("Spooling {} aggregated access records", hits.size());
+            hits.forEach(hitSpool::append);
+        }
+    }
+
+    public boolean sendAccessRecords(List<EndpointHit> hits) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return false;
+        }
+        try {
+            restTemplate.postForEntity(statisticsServiceUrl + "/hits", hits, Void.class);
+            circuitBreaker.onSuccess();
+            log.debug("{} access records sent successfully", hits.size());
+            return true;
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            log.warn("Failed to send {} access records: {}", hits.size(), e.getMessage());
+            return false;
         }
     }
 
     public List<ViewStats> fetchAccessStatistics(LocalDateTime start, LocalDateTime end,
                                                  List<String> uris, boolean unique) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            log.debug("Statistics circuit breaker is open, serving last known statistics");
+            return fallbackCache.get(uris, start, end, unique);
+        }
         try {
-            UriComponentsBuilder builder = UriComponentsBuilder
-                    .fromHttpUrl(statisticsServiceUrl + "/stats")
-                    .queryParam("start", start.format(DATE_FORMATTER))
-                    .queryParam("end", end.format(DATE_FORMATTER))
-                    .queryParam("unique", unique);
-
-            if (uris != null && !uris.isEmpty()) {
-                builder.queryParam("uris", String.join(",", uris));
+            List<ViewStats> statistics;
+            if (uris != null && uris.size() > bulkQueryThreshold) {
+                statistics = queryStatisticsInChunks(start, end, uris, unique);
+            } else {
+                statistics = getStatistics(start, end, uris, unique);
             }
+            circuitBreaker.onSuccess();
+            fallbackCache.update(statistics, start, end, unique);
+            return statistics;
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            log.warn("Failed to fetch statistics, serving last known statistics: {}", e.getMessage());
+            return fallbackCache.get(uris, start, end, unique);
+        }
+    }
 
-            String url = builder.build().toUriString();
-            log.debug("Fetching statistics from: {}", url);
+    private List<ViewStats> getStatistics(LocalDateTime start, LocalDateTime end,
+                                          List<String> uris, boolean unique) {
+        UriComponentsBuilder builder = UriComponentsBuilder
+                .fromHttpUrl(statisticsServiceUrl + "/stats")
+                .queryParam("start", start.format(DATE_FORMATTER))
+                .queryParam("end", end.format(DATE_FORMATTER))
+                .queryParam("unique", unique);
 
-            ResponseEntity<List<ViewStats>> response = restTemplate.exchange(
-                    url, HttpMethod.GET, null,
-                    new ParameterizedTypeReference<List<ViewStats>>() {});
+        if (uris != null && !uris.isEmpty()) {
+            builder.queryParam("uris", String.join(",", uris));
+        }
 
-            return response.getBody() != null ? response.getBody() : Collections.emptyList();
-        } catch (Exception e) {
-            log.warn("Failed to fetch statistics: {}", e.getMessage());
-            return Collections.emptyList();
+        String url = builder.build().toUriString();
+        log.debug("Fetching statistics from: {}", url);
+
+        ResponseEntity<List<ViewStats>> response = restTemplate.exchange(
+                url, HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<ViewStats>>() {});
+
+        return response.getBody() != null ? response.getBody() : Collections.emptyList();
+    }
+
+    private List<ViewStats> queryStatisticsInChunks(LocalDateTime start, LocalDateTime end,
+                                                    List<String> uris, boolean unique) {
+        List<String> distinctUris = uris.stream().distinct().collect(Collectors.toList());
+        log.debug("Querying statistics for {} uris in chunks of {}", distinctUris.size(), bulkQueryChunkSize);
+
+        List<CompletableFuture<List<ViewStats>>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinctUris.size(); from += bulkQueryChunkSize) {
+            ViewStatsRequest request = ViewStatsRequest.builder()
+                    .start(start)
+                    .end(end)
+                    .uris(distinctUris.subList(from, Math.min(from + bulkQueryChunkSize, distinctUris.size())))
+                    .unique(unique)
+                    .build();
+            chunks.add(CompletableFuture.supplyAsync(() -> postStatisticsQuery(request), bulkQueryExecutor));
         }
+
+        return chunks.stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(ViewStats::getHits, Comparator.reverseOrder()))
+                .collect(Collectors.toList());
+    }
+
+    private List<ViewStats> postStatisticsQuery(ViewStatsRequest request) {
+        ResponseEntity<List<ViewStats>> response = restTemplate.exchange(
+                statisticsServiceUrl + "/stats/query", HttpMethod.POST, new HttpEntity<>(request),
+                new ParameterizedTypeReference<List<ViewStats>>() {});
+
+        return response.getBody() != null ? response.getBody() : Collections.emptyList();
     }
 
     public boolean checkServiceHealth() {
@@ -75,4 +191,27 @@ public class StatisticsClient {
             return false;
         }
     }
+
+    @PostConstruct
+    public void startAggregationFlusher() {
+        if (aggregationWindowMs <= 0) {
+            return;
+        }
+        aggregationFlusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stats-hit-aggregation-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        aggregationFlusher.scheduleWithFixedDelay(this::flushPendingHits,
+                aggregationWindowMs, aggregationWindowMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (aggregationFlusher != null) {
+            aggregationFlusher.shutdown();
+        }
+        flushPendingHits();
+        bulkQueryExecutor.shutdown();
+    }
 }
\ No newline at end of file
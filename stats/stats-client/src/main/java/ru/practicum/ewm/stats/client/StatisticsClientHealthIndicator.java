@@ -0,0 +1,24 @@
+package ru.practicum.ewm.stats.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StatisticsClientHealthIndicator implements HealthIndicator {
+
+    private final StatisticsCircuitBreaker circuitBreaker;
+
+    @Override
+    public Health health() {
+        StatisticsCircuitBreaker.State state = circuitBreaker.getState();
+        // An unavailable statistics service must not mark this service unhealthy:
+        // while the circuit is open the last known statistics are served
+        return Health.up()
+                .withDetail("circuitBreaker", state.name())
+                .withDetail("degraded", state != StatisticsCircuitBreaker.State.CLOSED)
+                .build();
+    }
+}
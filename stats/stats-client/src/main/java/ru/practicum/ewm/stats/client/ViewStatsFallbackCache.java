@@ -0,0 +1,57 @@
+package ru.practicum.ewm.stats.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class ViewStatsFallbackCache {
+
+    private final Map<String, Entry> lastKnownStats;
+
+    public ViewStatsFallbackCache(@Value("${stats.client.fallback-cache.max-size:10000}") int maxSize) {
+        this.lastKnownStats = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized void update(Collection<ViewStats> statistics, LocalDateTime start, LocalDateTime end,
+                                    boolean unique) {
+        for (ViewStats stats : statistics) {
+            lastKnownStats.put(key(stats.getUri(), start, unique), new Entry(stats, end));
+        }
+    }
+
+    // A cached window with the same start that ends no later than the requested one is a lower bound
+    // of the requested counts, so open-ended queries (start fixed, end = now) can be served from it.
+    public synchronized List<ViewStats> get(Collection<String> uris, LocalDateTime start, LocalDateTime end,
+                                            boolean unique) {
+        List<ViewStats> result = new ArrayList<>();
+        if (uris == null) {
+            return result;
+        }
+        for (String uri : uris) {
+            Entry entry = lastKnownStats.get(key(uri, start, unique));
+            if (entry != null && !entry.end().isAfter(end)) {
+                result.add(entry.stats());
+            }
+        }
+        return result;
+    }
+
+    private String key(String uri, LocalDateTime start, boolean unique) {
+        return (unique ? "u:" : "a:") + start + ":" + uri;
+    }
+
+    private record Entry(ViewStats stats, LocalDateTime end) {
+    }
+}
@@ -0,0 +1,102 @@
+package ru.practicum.ewm.stats.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HitSpoolTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path spoolDir;
+
+    @Test
+    void compactionWhileBatchIsInFlightNeitherLosesNorDuplicatesHits() throws Exception {
+        long recordLength = objectMapper.writeValueAsBytes(hit(100)).length + 1;
+        HitSpool spool = new HitSpool(objectMapper, spoolDir.toString(), 10 * recordLength + 1);
+        List<String> sent = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(spool.append(hit(100 + i))).isTrue();
+        }
+        HitSpool.Batch first = spool.readBatch(5);
+        send(first, sent);
+        spool.acknowledge(first);
+
+        HitSpool.Batch inFlight = spool.readBatch(3);
+        assertThat(spool.append(hit(110))).isTrue();
+        send(inFlight, sent);
+        spool.acknowledge(inFlight);
+
+        while (!spool.isEmpty()) {
+            HitSpool.Batch batch = spool.readBatch(5);
+            send(batch, sent);
+            spool.acknowledge(batch);
+        }
+
+        assertThat(sent).containsExactlyElementsOf(IntStream.rangeClosed(100, 110)
+                .mapToObj(i -> "/events/" + i)
+                .toList());
+        spool.close();
+    }
+
+    @Test
+    void recordLongerThanReadChunkIsReplayed() throws Exception {
+        HitSpool spool = new HitSpool(objectMapper, spoolDir.toString(), 16L * 1024 * 1024);
+        String longUri = "/events/" + "x".repeat(3 * 1024 * 1024);
+        assertThat(spool.append(EndpointHit.builder().app("ewm-service").uri(longUri).ip("127.0.0.1")
+                .timestamp(TIMESTAMP).build())).isTrue();
+        assertThat(spool.append(hit(100))).isTrue();
+
+        HitSpool.Batch batch = spool.readBatch(10);
+        spool.acknowledge(batch);
+
+        assertThat(batch.getHits()).extracting(EndpointHit::getUri).containsExactly(longUri, "/events/100");
+        assertThat(spool.isEmpty()).isTrue();
+        spool.close();
+    }
+
+    @Test
+    void tornRecordAtTheEndIsDroppedOnOpen() throws Exception {
+        HitSpool spool = new HitSpool(objectMapper, spoolDir.toString(), 1024 * 1024);
+        assertThat(spool.append(hit(100))).isTrue();
+        spool.close();
+        Files.write(spoolDir.resolve("hits.spool"), "{\"app\":\"ewm".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        HitSpool reopened = new HitSpool(objectMapper, spoolDir.toString(), 1024 * 1024);
+        HitSpool.Batch batch = reopened.readBatch(10);
+        reopened.acknowledge(batch);
+
+        assertThat(batch.getHits()).extracting(EndpointHit::getUri).containsExactly("/events/100");
+        assertThat(reopened.isEmpty()).isTrue();
+        reopened.close();
+    }
+
+    private static void send(HitSpool.Batch batch, List<String> sent) {
+        batch.getHits().forEach(hit -> sent.add(hit.getUri()));
+    }
+
+    private static EndpointHit hit(int eventId) {
+        return EndpointHit.builder()
+                .app("ewm-service")
+                .uri("/events/" + eventId)
+                .ip("127.0.0.1")
+                .timestamp(TIMESTAMP)
+                .build();
+    }
+}
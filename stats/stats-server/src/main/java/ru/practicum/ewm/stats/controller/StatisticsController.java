@@ -1,14 +1,17 @@
 package ru.practicum.ewm.stats.controller;
 
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.ewm.stats.client.EndpointHit;
 import ru.practicum.ewm.stats.client.ViewStats;
+import ru.practicum.ewm.stats.client.ViewStatsRequest;
 import ru.practicum.ewm.stats.service.StatisticsService;
 
 import java.time.LocalDateTime;
@@ -16,6 +19,7 @@ import java.util.List;
 
 @Slf4j
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping
 public class StatisticsController {
@@ -31,6 +35,14 @@ public class StatisticsController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @PostMapping("/hits")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResponseEntity<Void> recordEndpointHits(@RequestBody List<@Valid EndpointHit> hits) {
+        log.info("Recording {} endpoint hits", hits.size());
+        statisticsService.registerEndpointAccesses(hits);
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<List<ViewStats>> getAccessStatistics(
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime start,
@@ -43,6 +55,15 @@ public class StatisticsController {
         return ResponseEntity.ok(statistics);
     }
 
+    @PostMapping("/stats/query")
+    public ResponseEntity<List<ViewStats>> queryAccessStatistics(@Valid @RequestBody ViewStatsRequest request) {
+        log.info("Fetching statistics from {} to {} for {} uris, unique: {}",
+                request.getStart(), request.getEnd(),
+                request.getUris() != null ? request.getUris().size() : 0, request.isUnique());
+        List<ViewStats> statistics = statisticsService.retrieveAccessStatistics(request);
+        return ResponseEntity.ok(statistics);
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
         log.info("Health check requested");
@@ -65,4 +86,10 @@ public class StatisticsController {
         log.warn("Invalid request parameters: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<String> handleConstraintViolationException(ConstraintViolationException ex) {
+        log.warn("Invalid request body: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package ru.practicum.ewm.stats.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import ru.practicum.ewm.stats.client.EndpointHit;
+import ru.practicum.ewm.stats.client.ViewStats;
 import ru.practicum.ewm.stats.model.EndpointAccess;
+import ru.practicum.ewm.stats.repository.ViewStatsView;
 
 @Mapper(componentModel = "spring")
 public interface StatisticsMapper {
@@ -12,5 +14,8 @@ public interface StatisticsMapper {
     @Mapping(source = "app", target = "application")
     @Mapping(source = "ip", target = "ipAddress")
     @Mapping(source = "timestamp", target = "accessedAt")
+    @Mapping(source = "count", target = "hitCount", defaultValue = "1")
     EndpointAccess toEndpointAccess(EndpointHit hit);
+
+    ViewStats toViewStats(ViewStatsView view);
 }
\ No newline at end of file
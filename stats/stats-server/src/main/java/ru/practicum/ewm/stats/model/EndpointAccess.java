@@ -30,4 +30,7 @@ public class EndpointAccess {
 
     @Column(name = "access_timestamp", nullable = false)
     private LocalDateTime accessedAt;
+
+    @Column(name = "hit_count", nullable = false)
+    private Integer hitCount;
 }
\ No newline at end of file
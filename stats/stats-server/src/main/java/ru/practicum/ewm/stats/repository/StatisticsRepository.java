@@ -14,12 +14,12 @@ import java.util.List;
 public interface StatisticsRepository extends JpaRepository<EndpointAccess, Long> {
 
     @Query("SELECT new ru.practicum.ewm.stats.client.ViewStats(" +
-            "ea.application, ea.uri, COUNT(ea.ipAddress)) " +
+            "ea.application, ea.uri, SUM(ea.hitCount)) " +
             "FROM EndpointAccess ea " +
             "WHERE ea.accessedAt BETWEEN :startTime AND :endTime " +
             "AND (:uris IS NULL OR ea.uri IN :uris) " +
             "GROUP BY ea.application, ea.uri " +
-            "ORDER BY COUNT(ea.ipAddress) DESC")
+            "ORDER BY SUM(ea.hitCount) DESC")
     List<ViewStats> calculateAccessStatistics(
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime,
@@ -36,4 +36,26 @@ public interface StatisticsRepository extends JpaRepository<EndpointAccess, Long
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime,
             @Param("uris") List<String> uris);
+
+    @Query(value = "SELECT ea.application_name AS app, ea.uri_path AS uri, SUM(ea.hit_count) AS hits " +
+            "FROM endpoint_accesses ea " +
+            "JOIN unnest(CAST(:uris AS text[])) AS requested(uri) ON ea.uri_path = requested.uri " +
+            "WHERE ea.access_timestamp BETWEEN :startTime AND :endTime " +
+            "GROUP BY ea.application_name, ea.uri_path " +
+            "ORDER BY hits DESC", nativeQuery = true)
+    List<ViewStatsView> calculateAccessStatisticsForUris(
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("uris") String[] uris);
+
+    @Query(value = "SELECT ea.application_name AS app, ea.uri_path AS uri, COUNT(DISTINCT ea.client_ip) AS hits " +
+            "FROM endpoint_accesses ea " +
+            "JOIN unnest(CAST(:uris AS text[])) AS requested(uri) ON ea.uri_path = requested.uri " +
+            "WHERE ea.access_timestamp BETWEEN :startTime AND :endTime " +
+            "GROUP BY ea.application_name, ea.uri_path " +
+            "ORDER BY hits DESC", nativeQuery = true)
+    List<ViewStatsView> calculateUniqueAccessStatisticsForUris(
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("uris") String[] uris);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package ru.practicum.ewm.stats.repository;
+
+public interface ViewStatsView {
+    String getApp();
+
+    String getUri();
+
+    Long getHits();
+}
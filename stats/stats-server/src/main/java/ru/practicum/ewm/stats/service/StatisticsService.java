@@ -2,12 +2,18 @@ package ru.practicum.ewm.stats.service;
 
 import ru.practicum.ewm.stats.client.EndpointHit;
 import ru.practicum.ewm.stats.client.ViewStats;
+import ru.practicum.ewm.stats.client.ViewStatsRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface StatisticsService {
     void registerEndpointAccess(EndpointHit hit);
+
+    void registerEndpointAccesses(List<EndpointHit> hits);
+
     List<ViewStats> retrieveAccessStatistics(LocalDateTime start, LocalDateTime end,
                                              List<String> uris, boolean unique);
+
+    List<ViewStats> retrieveAccessStatistics(ViewStatsRequest request);
 }
\ No newline at end of file
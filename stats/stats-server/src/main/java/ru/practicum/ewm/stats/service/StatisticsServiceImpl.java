@@ -6,12 +6,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.ewm.stats.client.EndpointHit;
 import ru.practicum.ewm.stats.client.ViewStats;
+import ru.practicum.ewm.stats.client.ViewStatsRequest;
 import ru.practicum.ewm.stats.mapper.StatisticsMapper;
 import ru.practicum.ewm.stats.model.EndpointAccess;
 import ru.practicum.ewm.stats.repository.StatisticsRepository;
+import ru.practicum.ewm.stats.repository.ViewStatsView;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,6 +37,19 @@ public class StatisticsServiceImpl implements StatisticsService {
         log.info("Endpoint access registered for app: {}", hit.getApp());
     }
 
+    @Override
+    @Transactional
+    public void registerEndpointAccesses(List<EndpointHit> hits) {
+        log.debug("Registering {} endpoint accesses", hits.size());
+
+        List<EndpointAccess> accesses = hits.stream()
+                .map(statisticsMapper::toEndpointAccess)
+                .collect(Collectors.toList());
+        statisticsRepository.saveAll(accesses);
+
+        log.info("Registered {} endpoint accesses", accesses.size());
+    }
+
     @Override
     public List<ViewStats> retrieveAccessStatistics(LocalDateTime start, LocalDateTime end,
                                                     List<String> uris, boolean unique) {
@@ -43,16 +59,38 @@ public class StatisticsServiceImpl implements StatisticsService {
         validateTimeRange(start, end);
 
         List<ViewStats> statistics;
-        if (unique) {
-            statistics = statisticsRepository.calculateUniqueAccessStatistics(start, end, uris);
+        if (uris != null && !uris.isEmpty()) {
+            statistics = calculateStatisticsForUris(start, end, uris, unique);
+        } else if (unique) {
+            statistics = statisticsRepository.calculateUniqueAccessStatistics(start, end, null);
         } else {
-            statistics = statisticsRepository.calculateAccessStatistics(start, end, uris);
+            statistics = statisticsRepository.calculateAccessStatistics(start, end, null);
         }
 
         log.info("Retrieved {} statistics records", statistics.size());
         return statistics;
     }
 
+    @Override
+    public List<ViewStats> retrieveAccessStatistics(ViewStatsRequest request) {
+        return retrieveAccessStatistics(request.getStart(), request.getEnd(), request.getUris(), request.isUnique());
+    }
+
+    private List<ViewStats> calculateStatisticsForUris(LocalDateTime start, LocalDateTime end,
+                                                       List<String> uris, boolean unique) {
+        String[] requestedUris = uris.stream()
+                .distinct()
+                .toArray(String[]::new);
+
+        List<ViewStatsView> statistics = unique
+                ? statisticsRepository.calculateUniqueAccessStatisticsForUris(start, end, requestedUris)
+                : statisticsRepository.calculateAccessStatisticsForUris(start, end, requestedUris);
+
+        return statistics.stream()
+                .map(statisticsMapper::toViewStats)
+                .collect(Collectors.toList());
+    }
+
 
     private void validateTimeRange(LocalDateTime start, LocalDateTime end) {
         if (start == null) {
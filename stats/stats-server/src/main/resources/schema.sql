@@ -3,9 +3,12 @@ CREATE TABLE IF NOT EXISTS endpoint_accesses (
     application_name VARCHAR(100) NOT NULL,
     uri_path VARCHAR(512) NOT NULL,
     client_ip VARCHAR(45) NOT NULL,
-    access_timestamp TIMESTAMP WITHOUT TIME ZONE NOT NULL
+    access_timestamp TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    hit_count INTEGER NOT NULL DEFAULT 1
 );
 
+ALTER TABLE endpoint_accesses ADD COLUMN IF NOT EXISTS hit_count INTEGER NOT NULL DEFAULT 1;
+
 CREATE INDEX IF NOT EXISTS idx_access_timestamp ON endpoint_accesses(access_timestamp);
 CREATE INDEX IF NOT EXISTS idx_uri_access ON endpoint_accesses(uri_path, access_timestamp);
 CREATE INDEX IF NOT EXISTS idx_app_uri ON endpoint_accesses(application_name, uri_path);
\ No newline at end of file